@@ -0,0 +1,218 @@
+package com.gbursali.capture;
+
+import com.gbursali.elements.HTMLElement;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriverException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Captures a screenshot and a DOM snapshot of the page when a verification or a wait of the wrapper fails.
+ * <p>
+ * The screenshot, as the Base64 string sent by the driver, and the {@code outerHTML} of the document are read on
+ * the failing thread, right after the failure. Decoding, compressing and writing them into the directory happens
+ * on a background thread,
+ * so the failing test is not slowed down by the disk. The queue of pending captures is bounded; when it is full,
+ * the failing thread writes its own capture, which keeps the memory held by the captures limited.
+ * <p>
+ * The capture is disabled by default and costs nothing until {@link #enable(Path)} is called.
+ */
+public class FailureCapture {
+    private static final DateTimeFormatter timestampFormat = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+    private static final AtomicInteger sequence = new AtomicInteger();
+    private static volatile Path directory;
+    private static volatile ThreadPoolExecutor writer;
+
+    protected FailureCapture() {/*hidden*/}
+
+    /**
+     * Raw artifacts of a failure, as read from the browser.
+     *
+     * @param name       Unique name of the capture, used as the file name prefix.
+     * @param reason     Description of the failure.
+     * @param screenshot Base64 encoded PNG of the screenshot, {@code null} if it could not be taken.
+     * @param html       The {@code outerHTML} of the document, {@code null} if it could not be read.
+     */
+    private record Capture(String name, String reason, String screenshot, String html) {
+    }
+
+    /**
+     * Enables the capture into the given directory, with room for 16 pending captures.
+     *
+     * @param directory The directory to write the artifacts into. It is created if it does not exist.
+     */
+    public static void enable(Path directory) {
+        enable(directory, 16);
+    }
+
+    /**
+     * Enables the capture into the given directory.
+     *
+     * @param directory     The directory to write the artifacts into. It is created if it does not exist.
+     * @param queueCapacity The number of captures that can wait to be written before the failing thread writes
+     *                      its own capture.
+     * @throws UncheckedIOException If the directory cannot be created.
+     */
+    public static synchronized void enable(Path directory, int queueCapacity) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Capture directory cannot be created: " + directory.toAbsolutePath(), e);
+        }
+        disable();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "failure-capture");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        FailureCapture.directory = directory;
+        FailureCapture.writer = executor;
+    }
+
+    /**
+     * Disables the capture. Captures that are already queued are still written.
+     */
+    public static synchronized void disable() {
+        ThreadPoolExecutor executor = writer;
+        writer = null;
+        directory = null;
+        if (executor != null)
+            executor.shutdown();
+    }
+
+    /**
+     * Checks if the capture is enabled.
+     *
+     * @return {@code true} if failures are captured, {@code false} otherwise.
+     */
+    public static boolean isEnabled() {
+        return writer != null;
+    }
+
+    /**
+     * Captures the page of the current driver, see {@link HTMLElement#currentDriver()}.
+     * <p>
+     * Does nothing if the capture is disabled. Never throws, so the original failure is reported as is.
+     *
+     * @param reason Description of the failure.
+     * @return The pending write of the capture, or {@code null} if nothing was captured.
+     */
+    public static Future<List<Path>> capture(String reason) {
+        ThreadPoolExecutor executor = writer;
+        Path target = directory;
+        if (executor == null || target == null)
+            return null;
+        try {
+            Capture capture = read(HTMLElement.currentDriver(), reason);
+            if (capture.screenshot() == null && capture.html() == null)
+                return null;
+            return executor.submit(() -> write(target, capture));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Waits until every queued capture is written.
+     *
+     * @param timeout The maximum time to wait.
+     * @return {@code true} if every capture is written, {@code false} if the timeout elapsed first.
+     */
+    public static boolean flush(Duration timeout) {
+        ThreadPoolExecutor executor = writer;
+        if (executor == null)
+            return true;
+        try {
+            executor.submit(() -> {
+            }).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (ExecutionException e) {
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Reads the raw screenshot and the DOM of the page, without processing them.
+     *
+     * @param driver The driver of the page.
+     * @param reason Description of the failure.
+     * @return The raw capture.
+     */
+    private static Capture read(SearchContext driver, String reason) {
+        String screenshot = null;
+        String html = null;
+        if (driver instanceof TakesScreenshot camera) {
+            try {
+                screenshot = camera.getScreenshotAs(OutputType.BASE64);
+            } catch (WebDriverException e) {
+                // The page cannot be captured, the DOM is still useful on its own.
+            }
+        }
+        if (driver instanceof JavascriptExecutor executor) {
+            try {
+                Object result = executor.executeScript("return document.documentElement.outerHTML;");
+                html = result == null ? null : result.toString();
+            } catch (WebDriverException e) {
+                // The DOM cannot be read, the screenshot is still useful on its own.
+            }
+        }
+        String name = LocalDateTime.now().format(timestampFormat) + "-" + sequence.incrementAndGet();
+        return new Capture(name, reason, screenshot, html);
+    }
+
+    /**
+     * Writes the decoded screenshot, and the compressed DOM prefixed with the reason of the failure.
+     *
+     * @param directory The directory to write the artifacts into.
+     * @param capture   The raw capture.
+     * @return The written files.
+     */
+    private static List<Path> write(Path directory, Capture capture) throws IOException {
+        List<Path> files = new ArrayList<>();
+        if (capture.screenshot() != null) {
+            Path file = directory.resolve(capture.name() + ".png");
+            Files.write(file, Base64.getMimeDecoder().decode(capture.screenshot()));
+            files.add(file);
+        }
+        if (capture.html() != null) {
+            Path file = directory.resolve(capture.name() + ".html.gz");
+            String reason = String.valueOf(capture.reason()).replace("--", "- -");
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+                out.write(("<!-- " + reason + " -->\n").getBytes(StandardCharsets.UTF_8));
+                out.write(capture.html().getBytes(StandardCharsets.UTF_8));
+            }
+            files.add(file);
+        }
+        return files;
+    }
+}
@@ -0,0 +1,294 @@
+package com.gbursali.elements;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Utility class for running JavaScript through {@link HTMLElement#driver}.
+ * <p>
+ * Bulk operations of the wrapper are evaluated in the browser with a single {@code executeScript} call.
+ * To make that possible, CSS and XPath locators are resolved inside the script instead of through
+ * {@code findElements}.
+ */
+public final class BrowserScript {
+
+    /**
+     * JavaScript function that resolves a remote locator ({@code using}, {@code value}) to an element array.
+     */
+    public static final String FIND_FUNCTION = """
+            var gbFind = function(using, value, root) {
+                root = root || document;
+                switch (using) {
+                    case 'css selector': return Array.from(root.querySelectorAll(value));
+                    case 'id': return Array.from(root.querySelectorAll('#' + CSS.escape(value)));
+                    case 'name': return Array.from(root.querySelectorAll('[name="' + CSS.escape(value) + '"]'));
+                    case 'class name': return Array.from(root.querySelectorAll('.' + CSS.escape(value)));
+                    case 'tag name': return Array.from(root.querySelectorAll(value));
+                    case 'xpath':
+                        var result = document.evaluate(value, root, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+                        var nodes = [];
+                        for (var i = 0; i < result.snapshotLength; i++) nodes.push(result.snapshotItem(i));
+                        return nodes;
+                    case 'link text':
+                        return Array.from(root.querySelectorAll('a')).filter(function(a) { return a.innerText.trim() === value; });
+                    case 'partial link text':
+                        return Array.from(root.querySelectorAll('a')).filter(function(a) { return a.innerText.indexOf(value) >= 0; });
+                }
+                return [];
+            };
+            """;
+
+    /**
+     * JavaScript function that reads an attribute the way {@link HTMLElement#getAttribute(String)} does.
+     */
+    public static final String ATTRIBUTE_FUNCTION = """
+            var gbAttribute = function(e, name) {
+                var value = e[name];
+                if (typeof value === 'boolean') return value ? 'true' : null;
+                if (value === undefined || value === null || typeof value === 'object' || typeof value === 'function')
+                    value = e.getAttribute(name);
+                return value === null || value === undefined ? null : String(value);
+            };
+            """;
+
+    /**
+     * JavaScript function that sets the value of a text input through its native setter and dispatches
+     * {@code input} and {@code change} events, returning the value read back, or {@code null} if the element
+     * is not a writable text input.
+     */
+    public static final String VALUE_FUNCTION = """
+            var gbSetValue = function(e, value) {
+                var prototype = e instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype
+                        : e instanceof HTMLInputElement ? HTMLInputElement.prototype : null;
+                if (!prototype || e.readOnly || e.disabled) return null;
+                e.focus();
+                Object.getOwnPropertyDescriptor(prototype, 'value').set.call(e, value);
+                e.dispatchEvent(new Event('input', {bubbles: true}));
+                e.dispatchEvent(new Event('change', {bubbles: true}));
+                return e.value;
+            };
+            """;
+
+    /**
+     * JavaScript functions that read and set the state of a checkbox, supporting {@code aria-checked} components.
+     * {@code gbSetChecked} clicks the checkbox only if its state differs, and returns whether it was clicked.
+     */
+    public static final String CHECKED_FUNCTIONS = """
+            var gbIsChecked = function(e) {
+                return 'checked' in e ? !!e.checked : e.getAttribute('aria-checked') === 'true';
+            };
+            var gbSetChecked = function(e, checked) {
+                if (gbIsChecked(e) === checked) return false;
+                e.click();
+                return true;
+            };
+            """;
+
+    /**
+     * JavaScript functions that scroll an element into the center of the viewport, hit-test its center with
+     * {@code elementFromPoint} and click it if nothing covers it. {@code gbClickInView} returns {@code clicked},
+     * or the reason it did not click: {@code disabled}, {@code hidden} or {@code obscured}.
+     * <p>
+     * {@code gbClickTarget(using, value, e)} clicks the given element if it is still attached, otherwise the first
+     * element found by the remote locator, and returns the outcome together with the clicked element. The outcome
+     * is {@code missing} if there is no such element. Requires {@link #FIND_FUNCTION}.
+     */
+    public static final String CLICK_FUNCTION = """
+            var gbClickTarget = function(using, value, e) {
+                if (!e || !e.isConnected) e = using ? (gbFind(using, value)[0] || null) : null;
+                return e ? [gbClickInView(e), e] : ['missing', null];
+            };
+            var gbClickInView = function(e) {
+                if (e.disabled) return 'disabled';
+                e.scrollIntoView({block: 'center', inline: 'center', behavior: 'instant'});
+                var rect = e.getBoundingClientRect();
+                if (rect.width === 0 || rect.height === 0) return 'hidden';
+                var root = e.getRootNode();
+                var hit = (root.elementFromPoint ? root : document)
+                        .elementFromPoint(rect.left + rect.width / 2, rect.top + rect.height / 2);
+                if (!hit || (hit !== e && !e.contains(hit))) return 'obscured';
+                e.click();
+                return 'clicked';
+            };
+            """;
+
+    /**
+     * JavaScript function that tracks the network and DOM activity of the page, installing the tracker on its
+     * first call. {@code gbQuietState} returns the number of pending {@code fetch} and {@code XMLHttpRequest}
+     * calls as {@code pending}, and the milliseconds since the last activity as {@code idle}.
+     */
+    public static final String QUIET_FUNCTION = """
+            var gbQuietState = function() {
+                var q = window.__gbQuiet;
+                if (!q) {
+                    q = window.__gbQuiet = {pending: 0, last: performance.now()};
+                    var touch = function() { q.last = performance.now(); };
+                    var done = function() { q.pending = Math.max(0, q.pending - 1); touch(); };
+                    if (window.fetch) {
+                        var fetch = window.fetch;
+                        window.fetch = function() {
+                            q.pending++; touch();
+                            try {
+                                return fetch.apply(this, arguments).finally(done);
+                            } catch (error) {
+                                done();
+                                throw error;
+                            }
+                        };
+                    }
+                    var send = XMLHttpRequest.prototype.send;
+                    XMLHttpRequest.prototype.send = function() {
+                        q.pending++; touch();
+                        this.addEventListener('loadend', done);
+                        try {
+                            return send.apply(this, arguments);
+                        } catch (error) {
+                            this.removeEventListener('loadend', done);
+                            done();
+                            throw error;
+                        }
+                    };
+                    new MutationObserver(touch).observe(document,
+                            {childList: true, subtree: true, attributes: true, characterData: true});
+                }
+                return {pending: q.pending, idle: performance.now() - q.last};
+            };
+            """;
+
+    /**
+     * Locator strategies that {@link #FIND_FUNCTION} can resolve inside the browser.
+     */
+    private static final Set<String> SUPPORTED_STRATEGIES = Set.of(
+            "css selector", "id", "name", "class name", "tag name", "xpath", "link text", "partial link text"
+    );
+
+    private BrowserScript() {/*hidden*/}
+
+    /**
+     * Executes the given script on the driver of the current thread, see {@link HTMLElement#currentDriver()}.
+     *
+     * @param script The JavaScript to execute.
+     * @param args   Arguments that will be available as {@code arguments} in the script.
+     * @return The value returned by the script, as converted by Selenium.
+     * @throws IllegalStateException If the driver cannot execute JavaScript.
+     */
+    public static Object execute(String script, Object... args) {
+        if (!(HTMLElement.currentDriver() instanceof JavascriptExecutor executor))
+            throw new IllegalStateException("HTMLElement.driver should be a JavascriptExecutor to run scripts.");
+        return executor.executeScript(script, args);
+    }
+
+    /**
+     * Runs the given script body against every element matched by the locator in a single browser call.
+     * <p>
+     * The body can use the {@code elements} array and the {@code args} array holding the extra arguments.
+     * If the locator cannot be resolved inside the browser, the elements are located with
+     * {@code findElements} first and passed to the script.
+     *
+     * @param by   The locator of the elements.
+     * @param body The JavaScript body to run, should end with a {@code return} statement.
+     * @param args Extra arguments for the body.
+     * @return The value returned by the script, as converted by Selenium.
+     */
+    public static Object onElements(By by, String body, Object... args) {
+        return onElements(ElementContext.current(), by, body, args);
+    }
+
+    /**
+     * Runs the given script body against every element matched by the locator within the given context, in a
+     * single browser call, see {@link #onElements(By, String, Object...)}.
+     * <p>
+     * The driver is switched to the frame of the context first. Elements inside a shadow root are located with
+     * {@code findElements} and passed to the script.
+     *
+     * @param context The context of the elements.
+     * @param by      The locator of the elements.
+     * @param body    The JavaScript body to run, should end with a {@code return} statement.
+     * @param args    Extra arguments for the body.
+     * @return The value returned by the script, as converted by Selenium.
+     */
+    public static Object onElements(ElementContext context, By by, String body, Object... args) {
+        SearchContext driver = HTMLElement.currentDriver();
+        Object[] scriptArgs = HTMLElement.inContext(context, root -> {
+            Object[] remote = root == driver ? toRemote(by) : null;
+            Object[] resolved = new Object[args.length + 3];
+            resolved[0] = remote == null ? null : remote[0];
+            resolved[1] = remote == null ? null : remote[1];
+            resolved[2] = remote == null ? by.findElements(root) : null;
+            return resolved;
+        });
+        System.arraycopy(args, 0, scriptArgs, 3, args.length);
+        String script = FIND_FUNCTION
+                + "var elements = arguments[0] ? gbFind(arguments[0], arguments[1]) : arguments[2];\n"
+                + "var args = Array.prototype.slice.call(arguments, 3);\n"
+                + body;
+        return execute(script, scriptArgs);
+    }
+
+    /**
+     * Converts a locator into a script target within the given context, switching the driver to the frame of the
+     * context. The script using the target should run right after.
+     * <p>
+     * The target holds the remote form of the locator followed by {@code null} if it can be resolved inside the
+     * browser by {@link #FIND_FUNCTION}, otherwise two {@code null} values followed by the first matching element,
+     * or {@code null} if there is none.
+     *
+     * @param by      The locator of the element.
+     * @param context The context of the element.
+     * @return The three-element target.
+     */
+    public static List<Object> toTarget(By by, ElementContext context) {
+        SearchContext driver = HTMLElement.currentDriver();
+        return HTMLElement.inContext(context, root -> {
+            Object[] remote = root == driver ? toRemote(by) : null;
+            List<Object> target = new ArrayList<>(3);
+            if (remote != null) {
+                target.add(remote[0]);
+                target.add(remote[1]);
+                target.add(null);
+            } else {
+                List<WebElement> found = HTMLElement.probe(by, root);
+                target.add(null);
+                target.add(null);
+                target.add(found.isEmpty() ? null : found.get(0));
+            }
+            return target;
+        });
+    }
+
+    /**
+     * Converts a locator into its remote form ({@code using}, {@code value}), if it can be resolved
+     * inside the browser by {@link #FIND_FUNCTION}.
+     *
+     * @param by The locator to convert.
+     * @return A two-element array holding the strategy and the value, or {@code null} if not supported.
+     */
+    public static Object[] toRemote(By by) {
+        if (!(by instanceof By.Remotable remotable))
+            return null;
+        By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+        if (!SUPPORTED_STRATEGIES.contains(parameters.using()))
+            return null;
+        return new Object[]{parameters.using(), String.valueOf(parameters.value())};
+    }
+
+    /**
+     * Converts a script result into a list of strings, keeping {@code null} values.
+     *
+     * @param result The result of a script returning an array.
+     * @return The list of string values.
+     */
+    static List<String> asStringList(Object result) {
+        if (!(result instanceof List<?> list))
+            return List.of();
+        return list.stream()
+                .map(x -> x == null ? null : String.valueOf(x))
+                .toList();
+    }
+}
@@ -1,6 +1,12 @@
 package com.gbursali.elements;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidElementStateException;
+import org.openqa.selenium.SearchContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 public class Checkbox extends HTMLElement {
     public Checkbox(By by) {
@@ -10,7 +16,109 @@ public class Checkbox extends HTMLElement {
     /**
      * Simulates a click on the checkbox. This will toggle the state of the checkbox.
      */
-    public void check(){
+    public void toggle(){
         asElement().click();
     }
+
+    /**
+     * Checks the checkbox if it is not checked already.
+     */
+    public void check(){
+        setChecked(true);
+    }
+
+    /**
+     * Unchecks the checkbox if it is checked.
+     */
+    public void uncheck(){
+        setChecked(false);
+    }
+
+    /**
+     * Retrieves the state of the checkbox.
+     *
+     * @return {@code true} if the checkbox is checked, {@code false} otherwise.
+     */
+    public boolean isChecked(){
+        return Boolean.TRUE.equals(BrowserScript.execute(BrowserScript.CHECKED_FUNCTIONS + "return gbIsChecked(arguments[0]);", asElement()));
+    }
+
+    /**
+     * Sets the state of the checkbox, reading and changing it in a single browser call.
+     * <p>
+     * The checkbox is only clicked if its state differs from the requested one.
+     *
+     * @param checked The requested state of the checkbox.
+     * @throws InvalidElementStateException If the checkbox does not reach the requested state.
+     */
+    public void setChecked(boolean checked){
+        Object actual = BrowserScript.execute(BrowserScript.CHECKED_FUNCTIONS + """
+                gbSetChecked(arguments[0], arguments[1]);
+                return gbIsChecked(arguments[0]);
+                """, asElement(), checked);
+        if (!Boolean.valueOf(checked).equals(actual))
+            throw new InvalidElementStateException("Checkbox could not be set to " + checked + ": " + locator);
+    }
+
+    /**
+     * Sets the state of every checkbox matched by the given locators in a single browser call.
+     * <p>
+     * Only the checkboxes whose state differs from the requested one are clicked.
+     *
+     * @param locators The locators of the checkboxes.
+     * @param checked  The requested state of the checkboxes.
+     * @return The number of checkboxes that were clicked.
+     * @throws InvalidElementStateException If any of the checkboxes does not reach the requested state, or a
+     *                                      locator matches no checkbox.
+     */
+    public static int setAll(List<By> locators, boolean checked){
+        return setAll(ElementContext.current(), locators, checked);
+    }
+
+    /**
+     * Sets the state of every checkbox matched by the given locators within the given context, in a single
+     * browser call, see {@link #setAll(List, boolean)}.
+     *
+     * @param context  The context of the checkboxes.
+     * @param locators The locators of the checkboxes.
+     * @param checked  The requested state of the checkboxes.
+     * @return The number of checkboxes that were clicked.
+     * @throws InvalidElementStateException If any of the checkboxes does not reach the requested state, or a
+     *                                      locator matches no checkbox.
+     */
+    public static int setAll(ElementContext context, List<By> locators, boolean checked){
+        SearchContext driver = currentDriver();
+        List<List<Object>> targets = HTMLElement.inContext(context, root -> {
+            List<List<Object>> resolved = new ArrayList<>();
+            for (By locator : locators) {
+                Object[] remote = root == driver ? BrowserScript.toRemote(locator) : null;
+                if (remote != null)
+                    resolved.add(List.of(remote[0], remote[1]));
+                else
+                    resolved.add(new ArrayList<>(locator.findElements(root)));
+            }
+            return resolved;
+        });
+        Object result = BrowserScript.execute(BrowserScript.FIND_FUNCTION + BrowserScript.CHECKED_FUNCTIONS + """
+                var checked = arguments[1], changed = 0, failed = [];
+                arguments[0].forEach(function(target, index) {
+                    var elements = typeof target[0] === 'string' ? gbFind(target[0], target[1]) : target;
+                    if (elements.length === 0) failed.push(index);
+                    elements.forEach(function(e) {
+                        if (gbSetChecked(e, checked)) changed++;
+                        if (gbIsChecked(e) !== checked && failed.indexOf(index) < 0) failed.push(index);
+                    });
+                });
+                return {changed: changed, failed: failed};
+                """, targets, checked);
+
+        Map<?, ?> summary = result instanceof Map<?, ?> map ? map : Map.of();
+        if (summary.get("failed") instanceof List<?> failed && !failed.isEmpty()) {
+            List<By> failedLocators = failed.stream()
+                    .map(x -> locators.get(((Number) x).intValue()))
+                    .toList();
+            throw new InvalidElementStateException("Checkboxes could not be set to " + checked + ": " + failedLocators);
+        }
+        return summary.get("changed") instanceof Number changed ? changed.intValue() : 0;
+    }
 }
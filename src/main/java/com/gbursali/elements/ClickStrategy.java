@@ -0,0 +1,20 @@
+package com.gbursali.elements;
+
+/**
+ * How {@link HTMLElement#click()} clicks the element, see {@link HTMLElement#clickStrategy}.
+ */
+public enum ClickStrategy {
+    /**
+     * Waits for the element to be clickable, then sends a native WebDriver click.
+     */
+    NATIVE,
+
+    /**
+     * Scrolls the element into view, checks with {@code elementFromPoint} that nothing covers its center, and
+     * clicks it, all in a single browser call. The click is dispatched by the page, so it does not go through the
+     * input pipeline of the browser.
+     * <p>
+     * If the element is missing, hidden, disabled or covered, the {@link #NATIVE} click is used instead.
+     */
+    ATOMIC
+}
@@ -2,20 +2,60 @@ package com.gbursali.elements;
 
 import org.junit.Assert;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebElement;
 
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.Function;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class Dropdown extends HTMLElement {
     public static String dropdownOptionsLocator = "//div[@data-ref='menu-dropdown']//div[contains(@id,'react-select')][@tabindex]";
 
-    private final Map<String, Function<WebElement, String>> optionsActionList = Map.of(
-            "text", WebElement::getText
-    );
+    /**
+     * CSS locators of the elements that {@link #close()} clicks to close a dropdown, in order of priority.
+     */
+    public static List<String> closeLocators = List.of("div.popup h1", "h1", "h3");
+
+    /**
+     * Maximum number of pages that {@link #searchOption(String, boolean)} scrolls through in a virtualized menu.
+     */
+    public static int virtualScanPageLimit = 500;
+
+    /**
+     * Text and attributes of a dropdown option, as read from the browser.
+     *
+     * @param text       Visible text of the option.
+     * @param attributes Values of the requested attributes, missing attributes are {@code null}.
+     */
+    public record Option(String text, Map<String, String> attributes) {
+    }
+
+    /**
+     * Number of {@link #close()} calls. Options cached before the last close are read again.
+     */
+    private static final AtomicLong closeCount = new AtomicLong();
+
+    /**
+     * Options read by the last {@link #readOptions(String...)} call, cleared when the dropdown is opened, clicked
+     * or typed into.
+     */
+    private List<Option> cachedOptions;
+
+    /**
+     * Value of {@link #closeCount} when the {@link #cachedOptions} were read.
+     */
+    private long cachedCloseCount;
+
+    /**
+     * Attributes contained by the {@link #cachedOptions}.
+     */
+    private Set<String> cachedAttributes = Set.of();
 
     public Dropdown(By locator) {
         super(locator);
@@ -26,10 +66,104 @@ public class Dropdown extends HTMLElement {
      * Dropdown object.
      */
     public Dropdown openDropdown() {
+        invalidateOptions();
         asElement().click();
         return this;
     }
 
+    /**
+     * Clears the cached option list, so the next {@link #readOptions(String...)} reads the menu again.
+     *
+     * @return This Dropdown instance.
+     */
+    public Dropdown invalidateOptions() {
+        cachedOptions = null;
+        cachedAttributes = Set.of();
+        return this;
+    }
+
+    /**
+     * Clicks the dropdown, clearing the cached option list, see {@link #invalidateOptions()}.
+     */
+    @Override
+    public void click() {
+        invalidateOptions();
+        super.click();
+    }
+
+    /**
+     * Types into the dropdown, clearing the cached option list, see {@link #invalidateOptions()}.
+     *
+     * @param text the sequence of keys to type
+     */
+    @Override
+    public void sendKeys(CharSequence... text) {
+        invalidateOptions();
+        super.sendKeys(text);
+    }
+
+    /**
+     * Reads the text and the given attributes of every option in a single browser call.
+     * <p>
+     * The result is cached until the dropdown is opened, clicked or typed into, a dropdown is closed with
+     * {@link #close()}, or {@link #invalidateOptions()} is called. Requesting attributes that are not in the cache
+     * reads the options again. An empty result, such as the options of a closed menu, is not cached.
+     *
+     * @param attributes The attributes to read from every option.
+     * @return The options of the dropdown, in document order.
+     */
+    public List<Option> readOptions(String... attributes) {
+        Set<String> requested = Set.copyOf(List.of(attributes));
+        if (cachedOptions != null && cachedCloseCount == closeCount.get() && cachedAttributes.containsAll(requested))
+            return cachedOptions;
+        long readCloseCount = closeCount.get();
+
+        Object result = BrowserScript.onElements(By.xpath(dropdownOptionsLocator), BrowserScript.ATTRIBUTE_FUNCTION + """
+                return elements.map(function(e) {
+                    var attributes = {};
+                    args[0].forEach(function(name) { attributes[name] = gbAttribute(e, name); });
+                    return {text: (e.innerText || '').trim(), attributes: attributes};
+                });
+                """, List.copyOf(requested));
+        List<?> values = result instanceof List<?> list ? list : List.of();
+        List<Option> options = values.stream()
+                .map(x -> (Map<?, ?>) x)
+                .map(Dropdown::toOption)
+                .toList();
+        if (options.isEmpty()) {
+            invalidateOptions();
+            return options;
+        }
+        cachedOptions = options;
+        cachedAttributes = requested;
+        cachedCloseCount = readCloseCount;
+        return options;
+    }
+
+    /**
+     * Converts an option read by the script into an {@link Option}.
+     *
+     * @param value The script result of a single option.
+     * @return The option.
+     */
+    private static Option toOption(Map<?, ?> value) {
+        Map<String, String> attributes = new HashMap<>();
+        if (value.get("attributes") instanceof Map<?, ?> read)
+            read.forEach((name, attribute) -> attributes.put(String.valueOf(name), attribute == null ? null : String.valueOf(attribute)));
+        return new Option(String.valueOf(value.get("text")), attributes);
+    }
+
+    /**
+     * Retrieves the text of every option in a single browser call.
+     *
+     * @return The texts of the options, in document order.
+     */
+    public List<String> getOptionTexts() {
+        return readOptions().stream()
+                .map(Option::text)
+                .toList();
+    }
+
     /**
      * Retrieves all options available in the dropdown.
      *
@@ -37,12 +171,13 @@ public class Dropdown extends HTMLElement {
      * This method locates all elements within the dropdown that are
      * identified by the `dropdownOptionsLocator`. It returns a list of
      * WebElement objects representing each option in the dropdown.
+     * The options are searched without waiting for the implicit wait, see {@link #probe(By)}.
      *
      * @return A list of WebElement objects representing the options
      * in the dropdown.
      */
     public List<WebElement> getOptions() {
-        return By.xpath(dropdownOptionsLocator).findElements(driver);
+        return probe(By.xpath(dropdownOptionsLocator));
     }
 
     /**
@@ -80,13 +215,30 @@ public class Dropdown extends HTMLElement {
         return findElement(By.xpath(locator));
     }
 
+    /**
+     * Asserts that the options of the dropdown have the expected values, in order.
+     * <p>
+     * Every option is read with a single browser call, see {@link #readOptions(String...)}. A failure is reported
+     * with {@link #reportFailure(Throwable)}.
+     *
+     * @param attributeToCheck The attribute to compare, or {@code text} for the visible text.
+     * @param expected         The expected values of the options.
+     */
     public void verifyOptions(String attributeToCheck, List<String> expected) {
-        Function<WebElement, String> action = optionsActionList.getOrDefault(attributeToCheck, x -> x.getAttribute(attributeToCheck));
-        List<String> actual = getOptions().stream()
-                .map(action)
+        long began = System.nanoTime();
+        boolean isText = attributeToCheck.equals("text");
+        List<String> actual = (isText ? readOptions() : readOptions(attributeToCheck)).stream()
+                .map(x -> isText ? x.text() : x.attributes().get(attributeToCheck))
                 .toList();
 
-        Assert.assertArrayEquals(expected.toArray(), actual.toArray());
+        try {
+            Assert.assertArrayEquals(expected.toArray(), actual.toArray());
+        } catch (AssertionError e) {
+            logOperation("verifyOptions", began, false);
+            reportFailure(e);
+            throw e;
+        }
+        logOperation("verifyOptions", began, true);
     }
 
     /**
@@ -98,13 +250,21 @@ public class Dropdown extends HTMLElement {
      * @param text The text of the option to be selected.
      */
     public void select(String text) {
-        if (!isOpen())
-            openDropdown();
-        if (!isOpen())
-            asElement().sendKeys(text);
-        HTMLElement htmlElement = getOption(text).orElseThrow(() -> new NoSuchElementException("Could not find option with text: " + text));
-        htmlElement.click();
-        close();
+        long began = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            if (!isOpen()) {
+                openDropdown();
+                if (!isOpen())
+                    asElement().sendKeys(text);
+            }
+            HTMLElement htmlElement = getOption(text).orElseThrow(() -> new NoSuchElementException("Could not find option with text: " + text));
+            htmlElement.click();
+            close();
+            succeeded = true;
+        } finally {
+            logOperation("select", began, succeeded);
+        }
     }
 
     /**
@@ -116,13 +276,118 @@ public class Dropdown extends HTMLElement {
      * @param text The text to search for in the dropdown options.
      */
     public void selectContains(String text) {
+        long began = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            if (!isOpen()) {
+                openDropdown();
+                if (!isOpen())
+                    asElement().sendKeys(text);
+            }
+            HTMLElement htmlElement = getOptionContains(text).orElseThrow(() -> new NoSuchElementException("Could not find option with text: " + text));
+            htmlElement.click();
+            close();
+            succeeded = true;
+        } finally {
+            logOperation("selectContains", began, succeeded);
+        }
+    }
+
+    /**
+     * Selects an option with the given text from a virtualized dropdown menu.
+     * <p>
+     * Unlike {@link #select(String)}, the option does not need to be rendered when the menu opens,
+     * see {@link #searchOption(String, boolean)}.
+     *
+     * @param text The text of the option to be selected.
+     */
+    public void selectDeep(String text) {
+        long began = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            HTMLElement htmlElement = searchOption(text, true).orElseThrow(() -> new NoSuchElementException("Could not find option with text: " + text));
+            htmlElement.click();
+            close();
+            succeeded = true;
+        } finally {
+            logOperation("selectDeep", began, succeeded);
+        }
+    }
+
+    /**
+     * Searches an option in a virtualized dropdown menu, where only a window of the options is rendered at once.
+     * <p>
+     * The dropdown is opened if needed and the rendered options are checked first. If the option is not rendered
+     * and the dropdown accepts typing, the text is typed to filter the options. Otherwise, the menu is scrolled
+     * page by page, checking the newly rendered options with a single browser call per page, until the option
+     * is found, the end of the menu is reached or {@link #virtualScanPageLimit} pages are scanned.
+     *
+     * @param text  The text of the option.
+     * @param exact {@code true} to match the whole text of the option, {@code false} to match a part of it.
+     * @return An {@link Optional} containing the found option.
+     */
+    public Optional<HTMLElement> searchOption(String text, boolean exact) {
         if (!isOpen())
             openDropdown();
-        if (!isOpen())
-            asElement().sendKeys(text);
-        HTMLElement htmlElement = getOptionContains(text).orElseThrow(() -> new NoSuchElementException("Could not find option with text: " + text));
-        htmlElement.click();
-        close();
+
+        WebElement dropdown = asElement();
+        Map<?, ?> page = scanOptions(dropdown, text, exact, "check");
+        if (page.get("option") == null && Boolean.TRUE.equals(page.get("typeable"))) {
+            dropdown.sendKeys(text);
+            page = scanOptions(dropdown, text, exact, "check");
+        }
+        if (page.get("option") == null && Boolean.TRUE.equals(page.get("scrollable"))) {
+            scanOptions(dropdown, text, exact, "top");
+            for (int i = 0; i < virtualScanPageLimit; i++) {
+                page = scanOptions(dropdown, text, exact, "scroll");
+                if (page.get("option") != null || Boolean.TRUE.equals(page.get("atEnd")))
+                    break;
+            }
+        }
+        if (!(page.get("option") instanceof WebElement option))
+            return Optional.empty();
+
+        String format = exact ? "//div[.='%s']" : "//div[contains(.,'%s')]";
+        HTMLElement found = new HTMLElement(By.xpath(dropdownOptionsLocator + String.format(format, text)));
+        found.cachedElement = option;
+        return Optional.of(found);
+    }
+
+    /**
+     * Checks the rendered options of the open menu with a single script, and scrolls the menu if asked.
+     *
+     * @param dropdown The element of the dropdown, resolved once per search.
+     * @param text     The text of the option.
+     * @param exact    Whether the whole text of the option should match.
+     * @param mode     {@code check} to only check the rendered options, {@code top} to scroll the menu to the top
+     *                 without checking, {@code scroll} to check and scroll one page down if the option is not found.
+     * @return The result of the script: the found {@code option}, whether the menu is {@code scrollable} and
+     * scrolled to its end ({@code atEnd}), and whether the dropdown is {@code typeable}.
+     */
+    private Map<?, ?> scanOptions(WebElement dropdown, String text, boolean exact, String mode) {
+        Object result = BrowserScript.execute(BrowserScript.FIND_FUNCTION + """
+                var text = arguments[0], exact = arguments[1], mode = arguments[2], dropdown = arguments[4];
+                var menu = document.querySelector('div[data-ref="menu-dropdown"]');
+                if (!menu) return {atEnd: true, scrollable: false};
+                var list = [menu].concat(Array.from(menu.querySelectorAll('*'))).find(function(e) {
+                    var overflow = window.getComputedStyle(e).overflowY;
+                    return (overflow === 'auto' || overflow === 'scroll') && e.scrollHeight > e.clientHeight;
+                });
+                if (mode === 'top') {
+                    if (list) list.scrollTop = 0;
+                    return {atEnd: !list, scrollable: !!list};
+                }
+                var option = gbFind('xpath', arguments[3]).find(function(e) {
+                    var optionText = (e.innerText || '').trim();
+                    return exact ? optionText === text : optionText.indexOf(text) >= 0;
+                }) || null;
+                var atEnd = !list || list.scrollTop + list.clientHeight >= list.scrollHeight - 1;
+                if (!option && mode === 'scroll' && !atEnd)
+                    list.scrollTop += list.clientHeight;
+                var typeable = !!dropdown && (dropdown.matches('input:not([readonly])') || !!dropdown.querySelector('input:not([readonly])'));
+                return {option: option, atEnd: atEnd, scrollable: !!list, typeable: typeable};
+                """, text, exact, mode, dropdownOptionsLocator, dropdown);
+        return result instanceof Map<?, ?> map ? map : Map.of();
     }
 
     /**
@@ -138,12 +403,36 @@ public class Dropdown extends HTMLElement {
 
     /**
      * Closes a popup by clicking on its header if it exists, otherwise clicks on the first h1 element found on the page.
+     * <p>
+     * The locators in {@link #closeLocators} are tried in order with a single browser call when the driver can
+     * execute JavaScript, otherwise each of them is probed without waiting.
      */
     public static void close() {
-        findElement(By.cssSelector("div.popup h1"))
-                .or(() -> findElement(By.cssSelector("h1")))
-                .or(() -> findElement(By.cssSelector("h3")))
-                .ifPresent(HTMLElement::click);
+        closeCount.incrementAndGet();
+        if (!(currentDriver() instanceof JavascriptExecutor)) {
+            Optional<HTMLElement> header;
+            try (Timeouts.Scope ignored = Timeouts.implicit(Duration.ZERO)) {
+                header = closeLocators.stream()
+                        .map(x -> findElement(By.cssSelector(x)))
+                        .flatMap(Optional::stream)
+                        .findFirst();
+            }
+            header.ifPresent(HTMLElement::click);
+            return;
+        }
+        Object result = BrowserScript.execute("""
+                var selectors = arguments[0];
+                for (var i = 0; i < selectors.length; i++) {
+                    var found = document.querySelector(selectors[i]);
+                    if (found) return [i, found];
+                }
+                return null;
+                """, closeLocators);
+        if (!(result instanceof List<?> match))
+            return;
+        HTMLElement header = new HTMLElement(By.cssSelector(closeLocators.get(((Number) match.get(0)).intValue())));
+        header.cachedElement = (WebElement) match.get(1);
+        header.click();
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,215 @@
+package com.gbursali.elements;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Describes where an {@link HTMLElement} lives: inside a chain of frames and shadow roots.
+ * <pre>{@code
+ * var context = ElementContext.top()
+ *         .frame(By.id("editor-frame"))
+ *         .shadow(By.cssSelector("rich-editor"));
+ * var toolbar = new HTMLElement(By.cssSelector(".toolbar")).within(context);
+ * }</pre>
+ * The resolved search context is cached. Frames are only switched when the driver is not already in the frame
+ * of the context, and shadow roots are only looked up again when they are no longer valid.
+ */
+public class ElementContext {
+
+    /**
+     * A single step of the context path.
+     */
+    public sealed interface Step permits Frame, Shadow {
+    }
+
+    /**
+     * Switches into the frame located by the locator.
+     *
+     * @param locator The locator of the frame element.
+     */
+    public record Frame(By locator) implements Step {
+    }
+
+    /**
+     * Enters the shadow root of the element located by the locator.
+     *
+     * @param host The locator of the shadow host element.
+     */
+    public record Shadow(By host) implements Step {
+    }
+
+    private static final ElementContext CURRENT = new ElementContext(null);
+
+    /**
+     * Steps of the path, {@code null} for the unmanaged current context.
+     */
+    private final List<Step> steps;
+
+    /**
+     * Index of the last frame step, {@code -1} if there is no frame in the path.
+     */
+    private final int lastFrame;
+
+    /**
+     * Guards the cached search context. A lock is used instead of {@code synchronized}, so that virtual threads
+     * waiting for the remote calls of the resolution do not pin their carrier thread.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private SearchContext cachedRoot;
+    private SearchContext cachedDriver;
+
+    protected ElementContext(List<Step> steps) {
+        this.steps = steps;
+        int last = -1;
+        if (steps != null) {
+            for (int i = 0; i < steps.size(); i++) {
+                if (steps.get(i) instanceof Frame)
+                    last = i;
+            }
+        }
+        this.lastFrame = last;
+    }
+
+    /**
+     * The context the driver is currently switched to. Elements in this context are searched directly on the
+     * driver, without switching frames. This is the default context of every {@link HTMLElement}.
+     * <p>
+     * The frame is the one the driver is in at the time of the search, not the one the test switched to. An
+     * element in a framed context leaves the driver in its frame, so the elements of this context searched
+     * after it are searched inside that frame as well. Elements of the top-level document that are used
+     * together with framed elements should be placed in the {@link #top()} context instead.
+     *
+     * @return The current context.
+     */
+    public static ElementContext current() {
+        return CURRENT;
+    }
+
+    /**
+     * The top-level document. Elements in this context switch the driver back to the default content if needed.
+     *
+     * @return The top-level context, ready to receive {@link #frame(By)} and {@link #shadow(By)} steps.
+     */
+    public static ElementContext top() {
+        return new ElementContext(List.of());
+    }
+
+    /**
+     * Creates a new context that enters the frame located by the locator.
+     *
+     * @param locator The locator of the frame element, searched within this context.
+     * @return A new context with the frame appended.
+     */
+    public ElementContext frame(By locator) {
+        return append(new Frame(locator));
+    }
+
+    /**
+     * Creates a new context that enters the shadow root of the element located by the locator.
+     *
+     * @param host The locator of the shadow host, searched within this context.
+     * @return A new context with the shadow root appended.
+     */
+    public ElementContext shadow(By host) {
+        return append(new Shadow(host));
+    }
+
+    private ElementContext append(Step step) {
+        List<Step> path = new ArrayList<>(steps == null ? List.of() : steps);
+        path.add(step);
+        return new ElementContext(List.copyOf(path));
+    }
+
+    /**
+     * Checks if this is the unmanaged current context.
+     *
+     * @return {@code true} if elements are searched directly on the driver.
+     */
+    public boolean isCurrent() {
+        return steps == null;
+    }
+
+    /**
+     * Retrieves the steps of the context path.
+     *
+     * @return The steps, empty for the current and top-level contexts.
+     */
+    public List<Step> getSteps() {
+        return steps == null ? List.of() : steps;
+    }
+
+    /**
+     * Resolves the search context of this path, switching frames only when needed.
+     *
+     * @param driver The driver of the session.
+     * @return The search context to find the elements in.
+     */
+    SearchContext resolve(SearchContext driver) {
+        if (steps == null)
+            return driver;
+
+        lock.lock();
+        try {
+            Session session = Session.of(driver);
+            List<Step> frames = steps.subList(0, lastFrame + 1);
+            boolean inFrame = frames.equals(session.currentFrames);
+            if (inFrame && cachedRoot != null && cachedDriver == driver)
+                return cachedRoot;
+
+            SearchContext root = driver;
+            int first = 0;
+            if (!inFrame) {
+                asWebDriver(driver).switchTo().defaultContent();
+                session.currentFrames = List.of();
+            } else {
+                first = lastFrame + 1;
+            }
+            for (int i = first; i < steps.size(); i++) {
+                Step step = steps.get(i);
+                if (step instanceof Frame frame) {
+                    WebElement frameElement = frame.locator().findElement(root);
+                    asWebDriver(driver).switchTo().frame(frameElement);
+                    session.currentFrames = List.copyOf(steps.subList(0, i + 1));
+                    root = driver;
+                } else if (step instanceof Shadow shadow) {
+                    root = shadow.host().findElement(root).getShadowRoot();
+                }
+            }
+            cachedRoot = root;
+            cachedDriver = driver;
+            return root;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Clears the cached search context and the known frame of the driver, so the next lookup resolves the whole
+     * path again.
+     *
+     * @param driver The driver of the session.
+     */
+    void reset(SearchContext driver) {
+        lock.lock();
+        try {
+            cachedRoot = null;
+            cachedDriver = null;
+        } finally {
+            lock.unlock();
+        }
+        Session.of(driver).forgetFrames();
+    }
+
+    private static WebDriver asWebDriver(SearchContext driver) {
+        if (!(driver instanceof WebDriver webDriver))
+            throw new IllegalStateException("HTMLElement.driver should be a WebDriver to switch frames.");
+        return webDriver;
+    }
+}
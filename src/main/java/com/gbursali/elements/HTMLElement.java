@@ -1,43 +1,232 @@
 package com.gbursali.elements;
 
+import com.gbursali.capture.FailureCapture;
+import com.gbursali.events.ElementActionEvent;
+import com.gbursali.events.ElementLookupEvent;
+import com.gbursali.events.ElementWaitEvent;
+import com.gbursali.metrics.WrapperMetrics;
+import org.awaitility.core.ConditionTimeoutException;
 import org.junit.Assert;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.pagefactory.FieldDecorator;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 
-import static org.awaitility.Awaitility.await;
-
 public class HTMLElement {
     protected final By locator;
+
+    /**
+     * The driver used by the elements, unless a driver is bound to the current thread with {@link #bindDriver}.
+     */
     public static SearchContext driver;
 
+    /**
+     * How {@link #click()} clicks the elements.
+     */
+    public static ClickStrategy clickStrategy = ClickStrategy.NATIVE;
+
+    /**
+     * Drivers bound to the threads that run on their own session, see {@link #bindDriver(SearchContext)}.
+     */
+    private static final ThreadLocal<SearchContext> boundDriver = new ThreadLocal<>();
+
     protected WebElement cachedElement;
 
+    /**
+     * Page epoch in which the {@link #cachedElement} was resolved by {@link PageResolver}, {@code -1} if it was not.
+     * A resolved element is trusted without checking it again until it turns out to be stale or the page epoch
+     * changes.
+     */
+    long resolvedEpoch = -1;
+
+    /**
+     * Frames and shadow roots the element lives in, see {@link #within(ElementContext)}.
+     */
+    protected ElementContext context = ElementContext.current();
+
     public Verify verify = new Verify();
 
     public ElementWaiter waitFor = new ElementWaiter();
 
+    /**
+     * Initialization plans of the page object fields, resolved once per field.
+     */
+    private static final Map<Field, FieldPlan> fieldPlans = new ConcurrentHashMap<>();
+
+    /**
+     * Constructors of the element types taking a single {@link By}, adapted to return {@link HTMLElement}.
+     */
+    private static final ClassValue<MethodHandle> constructors = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            try {
+                return MethodHandles.publicLookup()
+                        .findConstructor(type, MethodType.methodType(void.class, By.class))
+                        .asType(MethodType.methodType(HTMLElement.class, By.class));
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalArgumentException("Constructor cannot be set via By element. Cause: " + e.getMessage(), e);
+            }
+        }
+    };
+
     public HTMLElement(By by) {
-        if(driver == null)
+        if(currentDriver() == null)
             throw new NullPointerException("You should set the HTMLElement.driver first.");
         this.locator = by;
     }
 
+    /**
+     * Retrieves the driver of the current thread.
+     *
+     * @return The driver bound to the current thread, or {@link #driver} if none is bound.
+     */
+    public static SearchContext currentDriver() {
+        SearchContext bound = boundDriver.get();
+        return bound != null ? bound : driver;
+    }
+
+    /**
+     * Binds a driver to the current thread. Elements used on this thread run on the bound driver instead of
+     * {@link #driver}, so several sessions can be driven concurrently.
+     *
+     * @param driver The driver of the thread, {@code null} to remove the binding.
+     */
+    public static void bindDriver(SearchContext driver) {
+        if (driver == null)
+            boundDriver.remove();
+        else
+            boundDriver.set(driver);
+    }
+
     /**
      * Checks if the element associated with this HTMLElement exists in the DOM.
+     * <p>
+     * The element is searched with {@link #probe(By)}, so a missing element is reported immediately
+     * instead of waiting for the implicit wait of the driver. An element shared by another instance with the same
+     * locator is checked instead of searched, see {@link Session}.
      *
      * @return {@code true} if the element exists, {@code false} otherwise.
-     * @throws NoSuchElementException if the element cannot be found.
      */
 
     public boolean isExist() {
+        if (isElementValid())
+            return true;
+        Session session = Session.of(currentDriver());
+        long epoch = session.getPageEpoch();
+        WebElement shared = session.registered(locator, context);
+        if (shared != null && shared != cachedElement) {
+            cachedElement = shared;
+            if (isElementValid())
+                return true;
+        }
+        List<WebElement> found;
         try {
-            return asElement() != null;
-        } catch (NoSuchElementException e) {
+            found = inContext(root -> probe(locator, root));
+        } catch (NotFoundException e) {
+            return false;
+        }
+        if (found.isEmpty())
             return false;
+        cachedElement = found.get(0);
+        session.register(locator, context, cachedElement, epoch);
+        return true;
+    }
+
+    /**
+     * Places this element inside the given frames and shadow roots.
+     * <p>
+     * The resolved context is cached, so frames are only switched when the driver is not in the right frame
+     * already, and shadow roots are only looked up again when they are no longer valid.
+     *
+     * @param context The context of the element.
+     * @return This HTMLElement instance.
+     */
+    public HTMLElement within(ElementContext context) {
+        this.context = context;
+        return forceNew();
+    }
+
+    /**
+     * Runs the given search in the context of this element. If the context is no longer valid, it is resolved
+     * again and the search is retried once.
+     *
+     * @param search The search to run on the resolved context.
+     * @return The result of the search.
+     */
+    private <T> T inContext(Function<SearchContext, T> search) {
+        return inContext(context, search);
+    }
+
+    /**
+     * Runs the given search in the given context. If the context is no longer valid, it is resolved again and the
+     * search is retried once.
+     *
+     * @param context The context to search in.
+     * @param search  The search to run on the resolved context.
+     * @return The result of the search.
+     */
+    static <T> T inContext(ElementContext context, Function<SearchContext, T> search) {
+        try {
+            return search.apply(context.resolve(currentDriver()));
+        } catch (StaleElementReferenceException | NotFoundException | DetachedShadowRootException e) {
+            if (context.isCurrent())
+                throw e;
+            context.reset(currentDriver());
+            return search.apply(context.resolve(currentDriver()));
+        }
+    }
+
+    /**
+     * Finds the elements matching the locator without waiting and without throwing.
+     * <p>
+     * The implicit wait of the driver is set to zero during the search and restored afterwards, so
+     * negative checks do not block for the full implicit wait timeout, see {@link Timeouts#implicit(Duration)}.
+     *
+     * @param by The By locator used to find the elements.
+     * @return The list of matching elements, empty if none is found.
+     */
+    public static List<WebElement> probe(By by) {
+        return probe(by, currentDriver());
+    }
+
+    /**
+     * Finds the elements matching the locator within the given search context, without waiting and without
+     * throwing, see {@link #probe(By)}.
+     *
+     * @param by   The By locator used to find the elements.
+     * @param root The search context, such as a shadow root.
+     * @return The list of matching elements, empty if none is found.
+     */
+    static List<WebElement> probe(By by, SearchContext root) {
+        try (Timeouts.Scope ignored = Timeouts.implicit(Duration.ZERO)) {
+            return findElementsSafely(by, root);
+        }
+    }
+
+    /**
+     * Finds the elements matching the locator, returning an empty list instead of throwing when the
+     * search context is gone.
+     *
+     * @param by   The By locator used to find the elements.
+     * @param root The search context.
+     * @return The list of matching elements.
+     */
+    private static List<WebElement> findElementsSafely(By by, SearchContext root) {
+        try {
+            return by.findElements(root);
+        } catch (NotFoundException | StaleElementReferenceException e) {
+            return List.of();
         }
     }
 
@@ -62,24 +251,96 @@ public class HTMLElement {
      */
 
     public WebElement asElement() {
-        if (!isElementValid())
-            cachedElement = locator.findElement(driver);
+        long start = WrapperMetrics.start();
+        try {
+            if (!isElementValid())
+                cachedElement = lookup();
 
-        return cachedElement;
+            return cachedElement;
+        } finally {
+            WrapperMetrics.record("asElement", locator, start);
+        }
+    }
+
+    /**
+     * Locates the web element on the page, recording an {@link ElementLookupEvent} if enabled.
+     * <p>
+     * An element already found by another instance with the same locator in the current page epoch is reused
+     * if it is still displayed, see {@link Session}.
+     *
+     * @return The located web element.
+     */
+    private WebElement lookup() {
+        ElementLookupEvent event = new ElementLookupEvent();
+        event.begin();
+        WebElement element = null;
+        try {
+            Session session = Session.of(currentDriver());
+            long epoch = session.getPageEpoch();
+            WebElement stale = cachedElement;
+            element = inContext(root -> {
+                WebElement shared = session.registered(locator, context);
+                return shared != null && shared != stale && isUsable(shared, session, locator, context) ? shared : locator.findElement(root);
+            });
+            session.register(locator, context, element, epoch);
+            return element;
+        } finally {
+            if (event.shouldCommit()) {
+                event.locator = String.valueOf(locator);
+                event.found = element != null;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Checks if a shared element can be used instead of searching the page again.
+     * <p>
+     * A stale element starts a new page epoch of the session. Any other failure of the driver, such as a closed
+     * window, only drops the shared element, so the caller searches the page again.
+     *
+     * @param shared  The shared element.
+     * @param session The session of the element.
+     * @param locator The locator the element is shared by.
+     * @param context The context the element is shared in.
+     * @return {@code true} if the element is displayed, {@code false} if it is hidden, stale or cannot be checked.
+     */
+    private static boolean isUsable(WebElement shared, Session session, By locator, ElementContext context) {
+        try {
+            return shared.isDisplayed();
+        } catch (StaleElementReferenceException e) {
+            session.newPage();
+            return false;
+        } catch (WebDriverException e) {
+            session.forget(locator, context);
+            return false;
+        }
     }
 
     /**
      * Returns true if the cached web element is not null and is displayed.
      * <p>
-     * False otherwise or if the element is stale.
+     * False otherwise or if the element is stale. A stale element means the page has been replaced, so it starts a
+     * new page epoch of the session, see {@link Session#newPage()}.
+     * <p>
+     * An element resolved by {@link PageResolver} is valid without a browser call while the page epoch it was
+     * resolved in lasts.
      *
      * @return true if the element is valid, false otherwise
      */
 
     private boolean isElementValid() {
+        if (cachedElement == null)
+            return false;
+        if (resolvedEpoch >= 0) {
+            if (resolvedEpoch == Session.of(currentDriver()).getPageEpoch())
+                return true;
+            resolvedEpoch = -1;
+        }
         try {
-            return cachedElement != null && cachedElement.isDisplayed();
+            return cachedElement.isDisplayed();
         } catch (StaleElementReferenceException e) {
+            Session.of(currentDriver()).newPage();
             return false;
         }
     }
@@ -92,10 +353,15 @@ public class HTMLElement {
      * of the element from the web page
      * <p>
      * the next time it is needed.
+     * <p>
+     * The element shared with the other instances of the same locator is dropped as well. The page epoch and the
+     * elements shared by other locators are kept.
      */
 
     public HTMLElement forceNew() {
         cachedElement = null;
+        resolvedEpoch = -1;
+        Session.of(currentDriver()).forget(locator, context);
         return this;
     }
 
@@ -105,33 +371,65 @@ public class HTMLElement {
      * locate the corresponding web element. It is used by the PageFactory to
      * <p>
      * initialize the page object fields.
+     * <p>
+     * The locator and the constructor of each field are resolved once and reused on every
+     * initialization of the same page object class.
+     * <p>
+     * If a driver is bound to the current thread, the given driver replaces the binding instead of {@link #driver}.
      *
      * @return A FieldDecorator that can be used to decorate page object fields.
      */
     public static FieldDecorator getDecorator(SearchContext driver) {
-        HTMLElement.driver = driver;
-        return (loader, field) -> {
-            Function<By, ?> buildElement = x -> {
-                try {
-                    return field.getType().getConstructor(By.class).newInstance(x);
-                } catch (ReflectiveOperationException e) {
-                    throw new IllegalArgumentException("Constructor cannot be set via By element. Cause: "+e.getMessage(),e);
-                }
-            };
-            FindBy annotation = field.getAnnotation(FindBy.class);
-            if (annotation != null) {
-                FindBy.FindByBuilder byBuilder = new FindBy.FindByBuilder();
-                //Check through all of our classes
-                if (HTMLElement.class.isAssignableFrom(field.getType()))
-                    return buildElement.apply(byBuilder.buildIt(annotation, field));
-            }
-            return null;
-        };
+        if (boundDriver.get() != null)
+            bindDriver(driver);
+        else
+            HTMLElement.driver = driver;
+        return (loader, field) -> fieldPlans
+                .computeIfAbsent(field, HTMLElement::planOf)
+                .build();
+    }
 
+    /**
+     * Creates the initialization plan of a page object field.
+     *
+     * @param field The page object field.
+     * @return The plan of the field, or {@link FieldPlan#NONE} if the field is not decorated by this class.
+     */
+    private static FieldPlan planOf(Field field) {
+        FindBy annotation = field.getAnnotation(FindBy.class);
+        //Check through all of our classes
+        if (annotation == null || !HTMLElement.class.isAssignableFrom(field.getType()))
+            return FieldPlan.NONE;
+        By by = new FindBy.FindByBuilder().buildIt(annotation, field);
+        return new FieldPlan(by, constructors.get(field.getType()));
+    }
+
+    /**
+     * Prebuilt locator and constructor of a page object field.
+     *
+     * @param by          The locator built from the {@link FindBy} annotation.
+     * @param constructor The constructor of the field type, taking a single {@link By}.
+     */
+    private record FieldPlan(By by, MethodHandle constructor) {
+        private static final FieldPlan NONE = new FieldPlan(null, null);
+
+        private HTMLElement build() {
+            if (constructor == null)
+                return null;
+            try {
+                return (HTMLElement) constructor.invokeExact(by);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalArgumentException("Constructor cannot be set via By element. Cause: " + e.getMessage(), e);
+            }
+        }
     }
 
     /**
      * Finds an HTMLElement based on the provided By locator.
+     * <p>
+     * The search does not wait for the implicit wait of the driver, see {@link #probe(By)}.
      *
      * @param by The By locator used to find the element.
      * @return An Optional containing the found HTMLElement if it exists, otherwise an empty Optional.
@@ -145,10 +443,55 @@ public class HTMLElement {
     }
 
     /**
-     * Clicks the element.
+     * Clicks the element, as configured by {@link #clickStrategy}.
      */
     public void click() {
-        waitFor.clickability().asElement().click();
+        long start = WrapperMetrics.start();
+        long began = System.nanoTime();
+        ElementActionEvent event = new ElementActionEvent();
+        event.begin();
+        boolean succeeded = false;
+        try {
+            if (clickStrategy != ClickStrategy.ATOMIC || !clickInView())
+                waitFor.clickability().asElement().click();
+            succeeded = true;
+        } finally {
+            WrapperMetrics.record("click", locator, start);
+            commitAction(event, "click", began, succeeded);
+        }
+    }
+
+    /**
+     * Scrolls the element into view, hit-tests and clicks it in a single browser call, see {@link ClickStrategy#ATOMIC}.
+     * <p>
+     * The script clicks the cached element if it is still attached, otherwise it finds the element itself, so no
+     * separate existence check is sent. Locators that cannot be resolved in the browser need a cached element.
+     *
+     * @return {@code true} if the element is clicked, {@code false} if it is missing, hidden, disabled or covered.
+     */
+    private boolean clickInView() {
+        SearchContext driver = currentDriver();
+        if (!(driver instanceof JavascriptExecutor))
+            return false;
+        Object[] remote = inContext(root -> root == driver ? BrowserScript.toRemote(locator) : null);
+        if (remote == null && cachedElement == null)
+            return false;
+        Object result;
+        try {
+            result = BrowserScript.execute(BrowserScript.FIND_FUNCTION + BrowserScript.CLICK_FUNCTION
+                            + "return gbClickTarget(arguments[0], arguments[1], arguments[2]);",
+                    remote == null ? null : remote[0], remote == null ? null : remote[1], cachedElement);
+        } catch (StaleElementReferenceException e) {
+            dropStale();
+            return false;
+        } catch (JavascriptException e) {
+            return false;
+        }
+        if (!(result instanceof List<?> outcome) || outcome.size() < 2)
+            return false;
+        if (outcome.get(1) instanceof WebElement clicked)
+            cachedElement = clicked;
+        return "clicked".equals(outcome.get(0));
     }
 
     /**
@@ -157,7 +500,18 @@ public class HTMLElement {
      * @param text the sequence of keys to type
      */
     public void sendKeys(CharSequence... text) {
-        waitFor.clickability().asElement().sendKeys(String.join("", text));
+        long start = WrapperMetrics.start();
+        long began = System.nanoTime();
+        ElementActionEvent event = new ElementActionEvent();
+        event.begin();
+        boolean succeeded = false;
+        try {
+            waitFor.clickability().asElement().sendKeys(String.join("", text));
+            succeeded = true;
+        } finally {
+            WrapperMetrics.record("sendKeys", locator, start);
+            commitAction(event, "sendKeys", began, succeeded);
+        }
     }
 
     /**
@@ -167,7 +521,61 @@ public class HTMLElement {
      */
 
     public String getText() {
-        return asElement().getText();
+        long start = WrapperMetrics.start();
+        long began = System.nanoTime();
+        ElementActionEvent event = new ElementActionEvent();
+        event.begin();
+        boolean succeeded = false;
+        try {
+            String text = onElement(WebElement::getText);
+            succeeded = true;
+            return text;
+        } finally {
+            WrapperMetrics.record("getText", locator, start);
+            commitAction(event, "getText", began, succeeded);
+        }
+    }
+
+    /**
+     * Records the action into the {@link OperationLog} of the session, and commits the given action event if it
+     * is enabled.
+     *
+     * @param event     The event started before the action.
+     * @param action    Name of the action.
+     * @param began     The {@link System#nanoTime()} at the start of the action.
+     * @param succeeded Whether the action completed without an exception.
+     */
+    private void commitAction(ElementActionEvent event, String action, long began, boolean succeeded) {
+        logOperation(action, began, succeeded);
+        if (event.shouldCommit()) {
+            event.locator = String.valueOf(locator);
+            event.action = action;
+            event.succeeded = succeeded;
+            event.commit();
+        }
+    }
+
+    /**
+     * Records an operation on this element into the {@link OperationLog} of the session.
+     *
+     * @param operation Name of the operation.
+     * @param began     The {@link System#nanoTime()} at the start of the operation.
+     * @param succeeded Whether the operation completed without an exception.
+     */
+    protected void logOperation(String operation, long began, boolean succeeded) {
+        Session.of(currentDriver()).getOperations().record(operation, locator, began, succeeded);
+    }
+
+    /**
+     * Reports a failed verification or wait on this element: the recent operations of the session are attached
+     * to the failure, and the page is captured with {@link FailureCapture}.
+     *
+     * @param failure The failure to report.
+     */
+    protected void reportFailure(Throwable failure) {
+        OperationLog operations = Session.of(currentDriver()).getOperations();
+        operations.attachTo(failure);
+        FailureCapture.capture(locator + ": " + failure.getMessage() + "\n" + operations.dump());
     }
 
     /**
@@ -180,7 +588,32 @@ public class HTMLElement {
      */
 
     public Optional<String> getAttribute(String attribute) {
-        return Optional.ofNullable(asElement().getAttribute(attribute));
+        return Optional.ofNullable(onElement(x -> x.getAttribute(attribute)));
+    }
+
+    /**
+     * Runs the action on the web element. If the element turns out to be stale, the page is considered replaced,
+     * and the action is retried once on a newly located element.
+     *
+     * @param action The action to run on the web element.
+     * @return The result of the action.
+     */
+    private <T> T onElement(Function<WebElement, T> action) {
+        try {
+            return action.apply(asElement());
+        } catch (StaleElementReferenceException e) {
+            dropStale();
+            return action.apply(asElement());
+        }
+    }
+
+    /**
+     * Drops the cached element after it turned out to be stale, and starts a new page epoch of the session, since
+     * the page has been replaced.
+     */
+    private void dropStale() {
+        Session.of(currentDriver()).newPage();
+        cachedElement = null;
     }
 
     public class Verify {
@@ -192,8 +625,7 @@ public class HTMLElement {
          */
 
         public void text(String expectedText) {
-            String actualText = getText();
-            Assert.assertEquals(expectedText, actualText);
+            check(() -> Assert.assertEquals(expectedText, getText()));
         }
 
         /**
@@ -203,23 +635,32 @@ public class HTMLElement {
          */
 
         public void textContains(String expectedText) {
-            String actualText = getText();
-            Assert.assertTrue(actualText + " does not contain the " + expectedText,
-                    actualText.contains(expectedText));
+            check(() -> {
+                String actualText = getText();
+                Assert.assertTrue(actualText + " does not contain the " + expectedText,
+                        actualText.contains(expectedText));
+            });
         }
 
         /**
          * Asserts that the element exists.
          */
         public void existence() {
-            Assert.assertTrue(isExist());
+            check(() -> Assert.assertTrue(isExist()));
         }
 
         /**
          * Asserts that the element does not exist.
+         * <p>
+         * The assertion does not wait for the implicit wait of the driver, including the search of the frames and
+         * shadow roots of the element.
          */
         public void nonExistence() {
-            Assert.assertFalse(isExist());
+            check(() -> {
+                try (Timeouts.Scope ignored = Timeouts.implicit(Duration.ZERO)) {
+                    Assert.assertFalse(isExist());
+                }
+            });
         }
 
         /**
@@ -228,7 +669,7 @@ public class HTMLElement {
          * This method retrieves the "required" attribute of the element and asserts that it is not null.
          */
         public void isRequired() {
-            Assert.assertNotNull(getAttribute("required"));
+            check(() -> Assert.assertNotNull(getAttribute("required")));
         }
 
         /**
@@ -238,7 +679,7 @@ public class HTMLElement {
          */
 
         public void isNotRequired() {
-            Assert.assertNull(getAttribute("required"));
+            check(() -> Assert.assertNull(getAttribute("required")));
         }
 
         /**
@@ -247,7 +688,7 @@ public class HTMLElement {
          * This method retrieves the "disabled" attribute of the element and asserts that it is not null.
          */
         public void isDisabled() {
-            Assert.assertNotNull(getAttribute("disabled"));
+            check(() -> Assert.assertNotNull(getAttribute("disabled")));
         }
 
         /**
@@ -257,24 +698,123 @@ public class HTMLElement {
          */
 
         public void isNotDisabled() {
-            Assert.assertNull(getAttribute("disabled"));
+            check(() -> Assert.assertNull(getAttribute("disabled")));
         }
 
+        /**
+         * Runs the assertion, recording it into the {@link OperationLog} of the session, and reporting it with
+         * {@link #reportFailure(Throwable)} if it fails.
+         *
+         * @param assertion The assertion to run.
+         */
+        private void check(Runnable assertion) {
+            long began = System.nanoTime();
+            try {
+                assertion.run();
+            } catch (AssertionError | WebDriverException e) {
+                logOperation("verify", began, false);
+                reportFailure(e);
+                throw e;
+            }
+            logOperation("verify", began, true);
+        }
     }
 
     public class ElementWaiter {
 
+        /**
+         * Time the page should stay without network calls and DOM mutations to be considered quiet,
+         * see {@link #pageQuiet()}.
+         */
+        public static Duration quietWindow = Duration.ofMillis(500);
+
         public HTMLElement clickability() {
             var element = HTMLElement.this;
-            await("Waiting for element to be clickable")
-                    .ignoreException(NoSuchElementException.class)
-                    .ignoreException(StaleElementReferenceException.class)
-                    .ignoreException(ElementNotInteractableException.class)
-                    .until(() -> element.isExist() &&
+            return until("clickability", "Waiting for element to be clickable", () -> {
+                try {
+                    return element.isExist() &&
                             element.asElement().isDisplayed() &&
-                            element.asElement().isEnabled()
-                    );
-            return element;
+                            element.asElement().isEnabled();
+                } catch (StaleElementReferenceException e) {
+                    element.dropStale();
+                    throw e;
+                }
+            });
+        }
+
+        /**
+         * Waits until the page has no pending {@code fetch} or {@code XMLHttpRequest} calls and no DOM mutations
+         * for the {@link #quietWindow}.
+         *
+         * @return The element itself for chain support.
+         */
+        public HTMLElement pageQuiet() {
+            return pageQuiet(quietWindow);
+        }
+
+        /**
+         * Waits until the page has no pending {@code fetch} or {@code XMLHttpRequest} calls and no DOM mutations
+         * for the given window.
+         * <p>
+         * The activity is tracked by a script injected into the page on the first check, so activity that has
+         * started before is only seen once it is completed or mutates the DOM.
+         *
+         * @param window The time the page should stay idle.
+         * @return The element itself for chain support.
+         */
+        public HTMLElement pageQuiet(Duration window) {
+            long windowMillis = window.toMillis();
+            return until("pageQuiet", "Waiting for the page to be quiet", () -> {
+                Object state;
+                try {
+                    state = BrowserScript.execute(BrowserScript.QUIET_FUNCTION + "return gbQuietState();");
+                } catch (JavascriptException e) {
+                    return false;
+                }
+                return state instanceof Map<?, ?> counters &&
+                        counters.get("pending") instanceof Number pending && pending.intValue() == 0 &&
+                        counters.get("idle") instanceof Number idle && idle.doubleValue() >= windowMillis;
+            });
+        }
+
+        /**
+         * Waits until the condition is satisfied, recording its metrics, {@link ElementWaitEvent} and
+         * {@link OperationLog} entry, and reporting it with {@link #reportFailure(Throwable)} if it times out.
+         *
+         * @param condition Name of the condition.
+         * @param alias     Description of the wait, used in the timeout message.
+         * @param check     The condition to poll.
+         * @return The element itself for chain support.
+         */
+        private HTMLElement until(String condition, String alias, BooleanSupplier check) {
+            long start = WrapperMetrics.start();
+            long began = System.nanoTime();
+            ElementWaitEvent event = new ElementWaitEvent();
+            event.begin();
+            int[] attempts = {0};
+            boolean succeeded = false;
+            try {
+                Waiter.until(alias, () -> {
+                    attempts[0]++;
+                    return check.getAsBoolean();
+                });
+                succeeded = true;
+                logOperation(condition, began, true);
+            } catch (ConditionTimeoutException e) {
+                logOperation(condition, began, false);
+                reportFailure(e);
+                throw e;
+            } finally {
+                WrapperMetrics.record("wait." + condition, locator, start);
+                if (event.shouldCommit()) {
+                    event.locator = String.valueOf(locator);
+                    event.condition = condition;
+                    event.retries = Math.max(0, attempts[0] - 1);
+                    event.succeeded = succeeded;
+                    event.commit();
+                }
+            }
+            return HTMLElement.this;
         }
     }
 }
@@ -0,0 +1,116 @@
+package com.gbursali.elements;
+
+import org.openqa.selenium.By;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents every element matched by a {@link By} locator.
+ * <p>
+ * Unlike a list of {@link HTMLElement}s, the read operations of this class are evaluated in the browser
+ * with a single {@code executeScript} call, regardless of the number of matched elements.
+ */
+public class HTMLElements {
+    protected final By locator;
+    protected ElementContext context = ElementContext.current();
+
+    /**
+     * Snapshot of the state of a single element.
+     *
+     * @param displayed Whether the element is rendered on the page.
+     * @param enabled   Whether the element is not disabled.
+     * @param selected  Whether the element is checked or selected.
+     */
+    public record State(boolean displayed, boolean enabled, boolean selected) {
+    }
+
+    public HTMLElements(By by) {
+        if (HTMLElement.currentDriver() == null)
+            throw new NullPointerException("You should set the HTMLElement.driver first.");
+        this.locator = by;
+    }
+
+    /**
+     * Places these elements inside the given frames and shadow roots, see {@link HTMLElement#within(ElementContext)}.
+     *
+     * @param context The context of the elements.
+     * @return Instance itself for chain support.
+     */
+    public HTMLElements within(ElementContext context) {
+        this.context = context;
+        return this;
+    }
+
+    /**
+     * Returns the By locator associated with these elements.
+     *
+     * @return the By locator associated with these elements
+     */
+    public By asBy() {
+        return locator;
+    }
+
+    /**
+     * Counts the elements matched by the locator.
+     *
+     * @return The number of matched elements.
+     */
+    public int size() {
+        Object result = BrowserScript.onElements(context, locator, "return elements.length;");
+        return result == null ? 0 : ((Number) result).intValue();
+    }
+
+    /**
+     * Retrieves the visible text of every matched element in a single browser call.
+     *
+     * @return The texts of the elements, in document order.
+     */
+    public List<String> texts() {
+        Object result = BrowserScript.onElements(context, locator,
+                "return elements.map(function(e) { return (e.innerText || '').trim(); });");
+        return BrowserScript.asStringList(result);
+    }
+
+    /**
+     * Retrieves the given attribute of every matched element in a single browser call.
+     * <p>
+     * Like {@link HTMLElement#getAttribute(String)}, the property is preferred over the attribute, and
+     * missing values are returned as {@code null}.
+     *
+     * @param attribute The name of the attribute to retrieve.
+     * @return The attribute values of the elements, in document order.
+     */
+    public List<String> attributes(String attribute) {
+        Object result = BrowserScript.onElements(context, locator, BrowserScript.ATTRIBUTE_FUNCTION
+                + "return elements.map(function(e) { return gbAttribute(e, args[0]); });", attribute);
+        return BrowserScript.asStringList(result);
+    }
+
+    /**
+     * Retrieves the displayed, enabled and selected states of every matched element in a single browser call.
+     *
+     * @return The states of the elements, in document order.
+     */
+    public List<State> states() {
+        Object result = BrowserScript.onElements(context, locator, """
+                return elements.map(function(e) {
+                    var style = window.getComputedStyle(e);
+                    return {
+                        displayed: style.display !== 'none' && style.visibility !== 'hidden' && e.getClientRects().length > 0,
+                        enabled: !e.disabled,
+                        selected: !!(e.checked || e.selected)
+                    };
+                });
+                """);
+        if (!(result instanceof List<?> list))
+            return List.of();
+        return list.stream()
+                .map(x -> (Map<?, ?>) x)
+                .map(x -> new State(
+                        Boolean.TRUE.equals(x.get("displayed")),
+                        Boolean.TRUE.equals(x.get("enabled")),
+                        Boolean.TRUE.equals(x.get("selected"))))
+                .toList();
+    }
+}
@@ -0,0 +1,155 @@
+package com.gbursali.elements;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Bounded log of the most recent wrapper operations of a session, see {@link Session#getOperations()}.
+ * <p>
+ * The entries are kept in arrays allocated with the session and overwritten in a ring, so recording an operation
+ * does not allocate. The log is only read when a verification or a wait fails, in which case it is attached to the
+ * failure as a suppressed {@link History}.
+ */
+public class OperationLog {
+    private static final DateTimeFormatter timeFormat = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+
+    /**
+     * Number of operations kept by the logs of the sessions created afterwards.
+     */
+    public static int capacity = 256;
+
+    private final String[] operations;
+    private final Object[] locators;
+    private final long[] endTimes;
+    private final long[] durations;
+    private final boolean[] outcomes;
+    private long count;
+
+    /**
+     * A recorded operation.
+     *
+     * @param end       The time the operation ended.
+     * @param operation Name of the operation.
+     * @param locator   Locator the operation was performed on, {@code null} if none.
+     * @param duration  Wall time of the operation.
+     * @param succeeded Whether the operation completed without an exception.
+     */
+    public record Entry(Instant end, String operation, Object locator, Duration duration, boolean succeeded) {
+        @Override
+        public String toString() {
+            return LocalTime.ofInstant(end, ZoneId.systemDefault()).format(timeFormat) + " "
+                    + (succeeded ? "ok  " : "FAIL") + " " + operation + " " + (locator == null ? "" : locator + " ")
+                    + "(" + duration.toMillis() + " ms)";
+        }
+    }
+
+    /**
+     * The recent operations of a session, attached to a failure as a suppressed exception.
+     */
+    public static class History extends RuntimeException {
+        public History(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    /**
+     * Creates a log keeping the given number of operations.
+     *
+     * @param capacity The number of operations to keep.
+     * @throws IllegalArgumentException If the capacity is not positive.
+     */
+    public OperationLog(int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Capacity should be positive: " + capacity);
+        operations = new String[capacity];
+        locators = new Object[capacity];
+        endTimes = new long[capacity];
+        durations = new long[capacity];
+        outcomes = new boolean[capacity];
+    }
+
+    /**
+     * Records an operation, overwriting the oldest one if the log is full.
+     *
+     * @param operation Name of the operation.
+     * @param locator   Locator the operation was performed on, {@code null} if none.
+     * @param start     The {@link System#nanoTime()} at the start of the operation.
+     * @param succeeded Whether the operation completed without an exception.
+     */
+    public synchronized void record(String operation, Object locator, long start, boolean succeeded) {
+        int index = (int) (count++ % operations.length);
+        operations[index] = operation;
+        locators[index] = locator;
+        endTimes[index] = System.currentTimeMillis();
+        durations[index] = System.nanoTime() - start;
+        outcomes[index] = succeeded;
+    }
+
+    /**
+     * Retrieves the recorded operations.
+     *
+     * @return The kept operations, oldest first.
+     */
+    public synchronized List<Entry> entries() {
+        int size = (int) Math.min(count, operations.length);
+        List<Entry> entries = new ArrayList<>(size);
+        for (long i = count - size; i < count; i++) {
+            int index = (int) (i % operations.length);
+            entries.add(new Entry(Instant.ofEpochMilli(endTimes[index]), operations[index], locators[index],
+                    Duration.ofNanos(durations[index]), outcomes[index]));
+        }
+        return entries;
+    }
+
+    /**
+     * Retrieves the number of operations recorded since the log was created or cleared, including the overwritten
+     * ones.
+     *
+     * @return The number of recorded operations.
+     */
+    public synchronized long getCount() {
+        return count;
+    }
+
+    /**
+     * Removes every recorded operation.
+     */
+    public synchronized void clear() {
+        count = 0;
+        Arrays.fill(locators, null);
+        Arrays.fill(operations, null);
+    }
+
+    /**
+     * Formats the recorded operations, oldest first.
+     *
+     * @return The recorded operations, one per line.
+     */
+    public String dump() {
+        List<Entry> entries = entries();
+        StringBuilder builder = new StringBuilder("Last ").append(entries.size()).append(" operations:");
+        for (Entry entry : entries)
+            builder.append("\n  ").append(entry);
+        return builder.toString();
+    }
+
+    /**
+     * Attaches the recorded operations to the failure as a suppressed {@link History}, once.
+     *
+     * @param failure The failure to attach the operations to.
+     */
+    public void attachTo(Throwable failure) {
+        if (getCount() == 0)
+            return;
+        for (Throwable suppressed : failure.getSuppressed())
+            if (suppressed instanceof History)
+                return;
+        failure.addSuppressed(new History(dump()));
+    }
+}
@@ -0,0 +1,98 @@
+package com.gbursali.elements;
+
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utility class for resolving the {@link HTMLElement} fields of a page object up front.
+ * <p>
+ * Fields decorated by {@link HTMLElement#getDecorator} are located lazily on their first use, which costs
+ * one {@code findElement} round trip per field. This class locates all of them with a single
+ * {@code executeScript} call instead.
+ */
+public class PageResolver {
+
+    protected PageResolver() {/*hidden*/}
+
+    /**
+     * Resolves every {@link HTMLElement} field of the page object in a single browser call, and seeds
+     * their cached web elements and the shared elements of the {@link Session}.
+     * <p>
+     * The seeded elements are used without being checked again until one of them turns out to be stale or the page
+     * epoch changes, so using every field after this call costs no lookup round trip.
+     * <p>
+     * Fields that are not initialized, that live in an {@link ElementContext}, whose locator cannot be resolved
+     * inside the browser, or whose element is not present on the page are left untouched and will be located
+     * lazily as before.
+     *
+     * @param page The page object, initialized by the PageFactory.
+     * @return The number of fields that were resolved.
+     */
+    public static int resolveAll(Object page) {
+        List<HTMLElement> elements = new ArrayList<>();
+        List<List<String>> locators = new ArrayList<>();
+        for (HTMLElement element : getElementFields(page)) {
+            if (!element.context.isCurrent())
+                continue;
+            Object[] remote = BrowserScript.toRemote(element.asBy());
+            if (remote == null)
+                continue;
+            elements.add(element);
+            locators.add(List.of((String) remote[0], (String) remote[1]));
+        }
+        if (elements.isEmpty())
+            return 0;
+
+        Session session = Session.current();
+        long epoch = session.getPageEpoch();
+        Object result = BrowserScript.execute(BrowserScript.FIND_FUNCTION + """
+                return arguments[0].map(function(locator) {
+                    var found = gbFind(locator[0], locator[1]);
+                    return found.length > 0 ? found[0] : null;
+                });
+                """, locators);
+        if (!(result instanceof List<?> resolved))
+            return 0;
+
+        int count = 0;
+        for (int i = 0; i < resolved.size() && i < elements.size(); i++) {
+            if (resolved.get(i) instanceof WebElement webElement) {
+                HTMLElement element = elements.get(i);
+                element.cachedElement = webElement;
+                element.resolvedEpoch = epoch;
+                session.register(element.asBy(), element.context, webElement, epoch);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Collects the initialized {@link HTMLElement} fields of the page object, including the inherited ones.
+     *
+     * @param page The page object.
+     * @return The list of the element field values.
+     */
+    private static List<HTMLElement> getElementFields(Object page) {
+        List<HTMLElement> elements = new ArrayList<>();
+        for (Class<?> type = page.getClass(); type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || !HTMLElement.class.isAssignableFrom(field.getType()))
+                    continue;
+                if (!field.trySetAccessible())
+                    continue;
+                try {
+                    if (field.get(page) instanceof HTMLElement element)
+                        elements.add(element);
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException("Field cannot be read: " + field.getName(), e);
+                }
+            }
+        }
+        return elements;
+    }
+}
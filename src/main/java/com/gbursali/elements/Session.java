@@ -0,0 +1,320 @@
+package com.gbursali.elements;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the wrapper state that belongs to a single driver session, such as the frame the driver is switched to.
+ * <p>
+ * Sessions are created on first use, keyed by the identity of their driver. A session is released when its
+ * driver quits through a driver decorated with {@link #observe(WebDriver)}, or with {@link #close(SearchContext)}.
+ * The shared elements refer to their driver, so the session of an undecorated driver should be closed explicitly
+ * after the driver quits.
+ * <p>
+ * A session also shares the resolved elements between every {@link HTMLElement} with the same locator, so
+ * separate instances pointing at the same element pay for a single {@code findElement}. The shared elements
+ * belong to the current page epoch, which is started again by {@link #newPage()} when the page is replaced.
+ * Within an epoch the shared elements are trusted without being searched again, so pages that replace their
+ * content without a navigation should call {@link #newPage()}, unless the staleness is detected on its own.
+ */
+public class Session {
+    private static final Map<DriverKey, Session> sessions = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<SearchContext> collected = new ReferenceQueue<>();
+
+    /**
+     * Session last retrieved by each thread, so repeated lookups of the same driver skip the shared map.
+     */
+    private static final ThreadLocal<Recent> recent = new ThreadLocal<>();
+
+    /**
+     * Whether the session was released, see {@link #close(SearchContext)}.
+     */
+    private volatile boolean released;
+
+    /**
+     * Frame path the driver is known to be switched to, {@code null} if unknown.
+     */
+    volatile List<ElementContext.Step> currentFrames;
+
+    /**
+     * Implicit wait of the driver, {@code null} if unknown, see {@link Timeouts}.
+     */
+    volatile Duration implicitWait;
+
+    private final OperationLog operations = new OperationLog(OperationLog.capacity);
+    private final AtomicLong pageEpoch = new AtomicLong();
+    private final Map<RegistryKey, Registration> registry = new ConcurrentHashMap<>();
+
+    /**
+     * Locator of a shared element, together with the frames and shadow roots it was found in.
+     */
+    private record RegistryKey(By locator, List<ElementContext.Step> path) {
+    }
+
+    /**
+     * A shared element and the page epoch it was found in.
+     */
+    private record Registration(WebElement element, long epoch) {
+    }
+
+    /**
+     * Weak reference to a driver, compared by the identity of the driver.
+     */
+    private static final class DriverKey extends WeakReference<SearchContext> {
+        private final int hash;
+
+        DriverKey(SearchContext driver, ReferenceQueue<SearchContext> queue) {
+            super(driver, queue);
+            this.hash = System.identityHashCode(driver);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            SearchContext driver = get();
+            return driver != null && o instanceof DriverKey key && key.get() == driver;
+        }
+    }
+
+    /**
+     * A session and the driver it was last retrieved for.
+     */
+    private record Recent(DriverKey driver, Session session) {
+    }
+
+    protected Session() {/*hidden*/}
+
+    /**
+     * Retrieves the session of the given driver.
+     * <p>
+     * The session is remembered by the calling thread, so retrieving the session of the same driver again, as
+     * every operation of the elements does, does not touch the sessions of the other threads.
+     *
+     * @param driver The driver of the session.
+     * @return The session of the driver.
+     * @throws NullPointerException If the driver is {@code null}.
+     */
+    public static Session of(SearchContext driver) {
+        Objects.requireNonNull(driver, "The driver of the session should not be null.");
+        Recent last = recent.get();
+        if (last != null && last.driver().get() == driver && !last.session().released)
+            return last.session();
+
+        DriverKey key = new DriverKey(driver, null);
+        Session session = sessions.get(key);
+        if (session == null) {
+            expunge();
+            session = sessions.computeIfAbsent(new DriverKey(driver, collected), x -> new Session());
+        }
+        recent.set(new Recent(key, session));
+        return session;
+    }
+
+    /**
+     * Releases the session of the given driver, together with the shared elements and every other driver
+     * sharing the session, such as the one decorated with {@link #observe(WebDriver)}.
+     * <p>
+     * Called when a decorated driver quits. Should be called after an undecorated driver quits.
+     *
+     * @param driver The driver of the session.
+     */
+    public static void close(SearchContext driver) {
+        Session session = sessions.get(new DriverKey(driver, null));
+        if (session != null)
+            session.release();
+    }
+
+    /**
+     * Removes this session from every driver it belongs to, and drops its state.
+     */
+    private void release() {
+        released = true;
+        sessions.values().removeIf(x -> x == this);
+        registry.clear();
+        currentFrames = null;
+        implicitWait = null;
+    }
+
+    /**
+     * Removes the sessions of the drivers that were garbage collected.
+     */
+    private static void expunge() {
+        for (Reference<?> key; (key = collected.poll()) != null; )
+            sessions.remove(key);
+    }
+
+    /**
+     * Retrieves the session of the driver of the current thread, see {@link HTMLElement#currentDriver()}.
+     *
+     * @return The current session.
+     */
+    public static Session current() {
+        return of(HTMLElement.currentDriver());
+    }
+
+    /**
+     * Decorates the driver so that every navigation through it starts a new page epoch, see {@link #newPage()},
+     * every change of the implicit wait through it is known to {@link Timeouts}, and the session is released when
+     * it quits, see {@link #close(SearchContext)}.
+     * <p>
+     * The decorated driver shares the session of the given driver, and should be used as the driver of the
+     * elements.
+     *
+     * @param driver The driver to observe.
+     * @return The decorated driver.
+     */
+    public static WebDriver observe(WebDriver driver) {
+        Session session = of(driver);
+        WebDriver decorated = new EventFiringDecorator<WebDriver>(new SessionListener(session)).decorate(driver);
+        expunge();
+        sessions.put(new DriverKey(decorated, collected), session);
+        return decorated;
+    }
+
+    /**
+     * Retrieves the recent wrapper operations of the session.
+     *
+     * @return The operation log of the session.
+     */
+    public OperationLog getOperations() {
+        return operations;
+    }
+
+    /**
+     * Retrieves the current page epoch. The epoch changes whenever the page is considered replaced.
+     *
+     * @return The current page epoch.
+     */
+    public long getPageEpoch() {
+        return pageEpoch.get();
+    }
+
+    /**
+     * Starts a new page epoch, dropping every shared element of the previous page.
+     * <p>
+     * Called on navigation by the drivers decorated with {@link #observe(WebDriver)}, and when an element is
+     * detected to be stale. Should be called after the page is replaced in any other way.
+     */
+    public void newPage() {
+        pageEpoch.incrementAndGet();
+        registry.clear();
+    }
+
+    /**
+     * Retrieves the shared element of the locator, if it was found in the current page epoch.
+     *
+     * @param locator The locator of the element.
+     * @param context The context of the element.
+     * @return The shared element, {@code null} if there is none.
+     */
+    WebElement registered(By locator, ElementContext context) {
+        Registration registration = registry.get(keyOf(locator, context));
+        if (registration == null || registration.epoch() != pageEpoch.get())
+            return null;
+        return registration.element();
+    }
+
+    /**
+     * Shares an element found by its locator, unless the page epoch has changed since the search started.
+     *
+     * @param locator The locator of the element.
+     * @param context The context of the element.
+     * @param element The found element.
+     * @param epoch   The page epoch at the start of the search.
+     */
+    void register(By locator, ElementContext context, WebElement element, long epoch) {
+        if (element != null && epoch == pageEpoch.get())
+            registry.put(keyOf(locator, context), new Registration(element, epoch));
+    }
+
+    /**
+     * Removes the shared element of the locator, so the next lookup searches the page again.
+     *
+     * @param locator The locator of the element.
+     * @param context The context of the element.
+     */
+    void forget(By locator, ElementContext context) {
+        registry.remove(keyOf(locator, context));
+    }
+
+    /**
+     * Elements of the current context are searched in the frame the driver is known to be in.
+     */
+    private RegistryKey keyOf(By locator, ElementContext context) {
+        return new RegistryKey(locator, context.isCurrent() ? currentFrames : context.getSteps());
+    }
+
+    /**
+     * Forgets the frame the driver is switched to. Should be called after switching frames manually, so the next
+     * lookup through an {@link ElementContext} switches to its frame again.
+     * <p>
+     * The shared elements are dropped as well, since they may belong to another frame.
+     */
+    public void forgetFrames() {
+        currentFrames = null;
+        newPage();
+    }
+
+    /**
+     * Starts a new page epoch of the session on every navigation, the driver leaves any frame when navigating.
+     * Forgets the cached implicit wait when it is changed, and releases the session when the driver quits.
+     */
+    private record SessionListener(Session session) implements WebDriverListener {
+        @Override
+        public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+            if (target instanceof WebDriver.Timeouts && method.getName().equals("implicitlyWait"))
+                session.implicitWait = null;
+        }
+
+        @Override
+        public void afterQuit(WebDriver driver) {
+            session.release();
+        }
+
+        @Override
+        public void afterGet(WebDriver driver, String url) {
+            session.forgetFrames();
+        }
+
+        @Override
+        public void afterTo(WebDriver.Navigation navigation, String url) {
+            session.forgetFrames();
+        }
+
+        @Override
+        public void afterBack(WebDriver.Navigation navigation) {
+            session.forgetFrames();
+        }
+
+        @Override
+        public void afterForward(WebDriver.Navigation navigation) {
+            session.forgetFrames();
+        }
+
+        @Override
+        public void afterRefresh(WebDriver.Navigation navigation) {
+            session.forgetFrames();
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.gbursali.elements;
+
+import org.junit.Assert;
+import org.openqa.selenium.By;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Groups the verifications of many elements and evaluates them together.
+ * <p>
+ * Every element and property referenced by the verifications is read with a single {@code executeScript}
+ * call per {@link ElementContext}, then the verifications are evaluated locally and every failure is reported
+ * at once.
+ * <pre>{@code
+ * SoftVerify.of()
+ *         .text(nameField, "John")
+ *         .isRequired(emailField)
+ *         .isNotDisabled(saveButton)
+ *         .verifyAll();
+ * }</pre>
+ */
+public class SoftVerify {
+
+    /**
+     * Snapshot of an element, as read from the browser.
+     *
+     * @param exists     Whether the element is present on the page.
+     * @param text       Visible text of the element, {@code null} if it does not exist.
+     * @param attributes Values of the requested attributes, missing attributes are {@code null}.
+     */
+    public record Snapshot(boolean exists, String text, Map<String, String> attributes) {
+        private static final Snapshot MISSING = new Snapshot(false, null, Map.of());
+
+        /**
+         * Retrieves the value of a requested attribute.
+         *
+         * @param name The name of the attribute.
+         * @return The value of the attribute, or {@code null} if the attribute does not exist.
+         */
+        public String attribute(String name) {
+            return attributes.get(name);
+        }
+    }
+
+    /**
+     * An element to read, identified by its locator and the steps of its context, {@code null} for the current
+     * context.
+     */
+    private record Target(By locator, List<ElementContext.Step> path) {
+        String describe() {
+            return path == null || path.isEmpty() ? String.valueOf(locator) : path + " " + locator;
+        }
+    }
+
+    private record Check(Target target, String description, Predicate<Snapshot> condition) {
+    }
+
+    private final List<Check> checks = new ArrayList<>();
+    private final Map<Target, Set<String>> requestedAttributes = new LinkedHashMap<>();
+    private final Map<List<ElementContext.Step>, ElementContext> contexts = new HashMap<>();
+
+    protected SoftVerify() {/*hidden*/}
+
+    /**
+     * Creates an empty verification session.
+     *
+     * @return A new {@link SoftVerify} instance.
+     */
+    public static SoftVerify of() {
+        return new SoftVerify();
+    }
+
+    /**
+     * Adds a verification to the session.
+     *
+     * @param element     The element to verify.
+     * @param description Description of the expectation, used in the failure report.
+     * @param condition   Condition that the snapshot of the element should satisfy.
+     * @param attributes  The attributes that the condition reads.
+     * @return Instance itself for chain support.
+     */
+    public SoftVerify that(HTMLElement element, String description, Predicate<Snapshot> condition, String... attributes) {
+        List<ElementContext.Step> path = element.context.isCurrent() ? null : element.context.getSteps();
+        contexts.putIfAbsent(path, element.context);
+        Target target = new Target(element.asBy(), path);
+        Set<String> names = requestedAttributes.computeIfAbsent(target, x -> new LinkedHashSet<>());
+        names.addAll(List.of(attributes));
+        checks.add(new Check(target, description, condition));
+        return this;
+    }
+
+    /**
+     * Verifies that the text of the element is equal to the provided text.
+     *
+     * @param element      The element to verify.
+     * @param expectedText The expected text content of the element.
+     * @return Instance itself for chain support.
+     */
+    public SoftVerify text(HTMLElement element, String expectedText) {
+        return that(element, "text should be '" + expectedText + "'",
+                x -> x.exists() && Objects.equals(expectedText, x.text()));
+    }
+
+    /**
+     * Verifies that the text of the element contains the provided text.
+     *
+     * @param element      The element to verify.
+     * @param expectedText The text that the element should contain.
+     * @return Instance itself for chain support.
+     */
+    public SoftVerify textContains(HTMLElement element, String expectedText) {
+        return that(element, "text should contain '" + expectedText + "'",
+                x -> x.exists() && x.text().contains(expectedText));
+    }
+
+    /**
+     * Verifies that the element exists.
+     *
+     * @param element The element to verify.
+     * @return Instance itself for chain support.
+     */
+    public SoftVerify existence(HTMLElement element) {
+        return that(element, "should exist", Snapshot::exists);
+    }
+
+    /**
+     * Verifies that the element does not exist.
+     *
+     * @param element The element to verify.
+     * @return Instance itself for chain support.
+     */
+    public SoftVerify nonExistence(HTMLElement element) {
+        return that(element, "should not exist", x -> !x.exists());
+    }
+
+    /**
+     * Verifies that the element is a required field.
+     *
+     * @param element The element to verify.
+     * @return Instance itself for chain support.
+     */
+    public SoftVerify isRequired(HTMLElement element) {
+        return that(element, "should be required", x -> x.attribute("required") != null, "required");
+    }
+
+    /**
+     * Verifies that the element is not a required field.
+     *
+     * @param element The element to verify.
+     * @return Instance itself for chain support.
+     */
+    public SoftVerify isNotRequired(HTMLElement element) {
+        return that(element, "should not be required", x -> x.attribute("required") == null, "required");
+    }
+
+    /**
+     * Verifies that the element is disabled.
+     *
+     * @param element The element to verify.
+     * @return Instance itself for chain support.
+     */
+    public SoftVerify isDisabled(HTMLElement element) {
+        return that(element, "should be disabled", x -> x.attribute("disabled") != null, "disabled");
+    }
+
+    /**
+     * Verifies that the element is not disabled.
+     *
+     * @param element The element to verify.
+     * @return Instance itself for chain support.
+     */
+    public SoftVerify isNotDisabled(HTMLElement element) {
+        return that(element, "should not be disabled", x -> x.attribute("disabled") == null, "disabled");
+    }
+
+    /**
+     * Verifies that the given attribute of the element is equal to the expected value.
+     *
+     * @param element   The element to verify.
+     * @param attribute The name of the attribute.
+     * @param expected  The expected value of the attribute.
+     * @return Instance itself for chain support.
+     */
+    public SoftVerify attribute(HTMLElement element, String attribute, String expected) {
+        return that(element, attribute + " should be '" + expected + "'",
+                x -> Objects.equals(expected, x.attribute(attribute)), attribute);
+    }
+
+    /**
+     * Reads every referenced element in a single browser call and evaluates all verifications.
+     *
+     * @throws AssertionError If any of the verifications fails, listing every failure.
+     */
+    public void verifyAll() {
+        Map<Target, Snapshot> snapshots = takeSnapshots();
+        List<String> failures = new ArrayList<>();
+        for (Check check : checks) {
+            Snapshot snapshot = snapshots.getOrDefault(check.target(), Snapshot.MISSING);
+            if (!check.condition().test(snapshot))
+                failures.add(check.target().describe() + " " + check.description() + describe(snapshot));
+        }
+        if (!failures.isEmpty())
+            Assert.fail(failures.size() + " of " + checks.size() + " verifications failed:\n - "
+                    + String.join("\n - ", failures));
+    }
+
+    /**
+     * Describes the actual state of the element for the failure report.
+     *
+     * @param snapshot The snapshot of the element.
+     * @return The description of the actual state.
+     */
+    private static String describe(Snapshot snapshot) {
+        if (!snapshot.exists())
+            return ", but it does not exist";
+        return ", but text was '" + snapshot.text() + "'" +
+                (snapshot.attributes().isEmpty() ? "" : " and attributes were " + snapshot.attributes());
+    }
+
+    /**
+     * Reads the text and the requested attributes of every referenced element with a single script per context.
+     * <p>
+     * The elements of the current context are read first, before a framed context switches the driver into
+     * another frame, see {@link ElementContext#current()}.
+     *
+     * @return The snapshots of the elements by their targets.
+     */
+    private Map<Target, Snapshot> takeSnapshots() {
+        Map<List<ElementContext.Step>, List<Target>> groups = new LinkedHashMap<>();
+        if (contexts.containsKey(null))
+            groups.put(null, new ArrayList<>());
+        for (Target target : requestedAttributes.keySet())
+            groups.computeIfAbsent(target.path(), x -> new ArrayList<>()).add(target);
+
+        Map<Target, Snapshot> snapshots = new LinkedHashMap<>();
+        groups.forEach((path, targets) -> snapshots.putAll(takeSnapshots(contexts.get(path), targets)));
+        return snapshots;
+    }
+
+    /**
+     * Reads the text and the requested attributes of the elements of a single context with a single script.
+     *
+     * @param context The context of the elements.
+     * @param targets The elements to read.
+     * @return The snapshots of the elements by their targets.
+     */
+    private Map<Target, Snapshot> takeSnapshots(ElementContext context, List<Target> targets) {
+        List<List<Object>> scriptTargets = new ArrayList<>();
+        for (Target target : targets) {
+            List<Object> scriptTarget = BrowserScript.toTarget(target.locator(), context);
+            scriptTarget.add(new ArrayList<>(requestedAttributes.get(target)));
+            scriptTargets.add(scriptTarget);
+        }
+
+        Object result = BrowserScript.execute(BrowserScript.FIND_FUNCTION + BrowserScript.ATTRIBUTE_FUNCTION + """
+                return arguments[0].map(function(target) {
+                    var e = target[0] ? (gbFind(target[0], target[1])[0] || null) : target[2];
+                    if (!e) return null;
+                    var attributes = {};
+                    target[3].forEach(function(name) { attributes[name] = gbAttribute(e, name); });
+                    return {text: (e.innerText || '').trim(), attributes: attributes};
+                });
+                """, scriptTargets);
+
+        Map<Target, Snapshot> snapshots = new LinkedHashMap<>();
+        List<?> values = result instanceof List<?> list ? list : List.of();
+        for (int i = 0; i < targets.size() && i < values.size(); i++) {
+            if (!(values.get(i) instanceof Map<?, ?> value))
+                continue;
+            Map<String, String> attributes = new LinkedHashMap<>();
+            if (value.get("attributes") instanceof Map<?, ?> read)
+                read.forEach((name, attribute) -> attributes.put(String.valueOf(name), attribute == null ? null : String.valueOf(attribute)));
+            snapshots.put(targets.get(i), new Snapshot(true, String.valueOf(value.get("text")), attributes));
+        }
+        return snapshots;
+    }
+}
@@ -41,4 +41,23 @@ public class Textbox extends HTMLElement {
         return this;
 
     }
+
+    /**
+     * Fills the textbox with the given text in a single browser call.
+     * <p>
+     * The value is set through the native value setter of the element, and {@code input} and {@code change}
+     * events are dispatched, so frameworks like React see the change. The value is read back in the same call;
+     * if the page rejects the programmatic value, or the element is not a text input, the text is typed with
+     * {@link #sendKeys(CharSequence...)} instead.
+     *
+     * @param text The text to fill into the textbox.
+     * @return This Textbox instance after the fill operation.
+     */
+    public Textbox fastFill(String text) {
+        Object actual = BrowserScript.execute(BrowserScript.VALUE_FUNCTION + "return gbSetValue(arguments[0], arguments[1]);",
+                asElement(), text);
+        if (!text.equals(actual))
+            clear().sendKeys(text);
+        return this;
+    }
 }
@@ -0,0 +1,108 @@
+package com.gbursali.elements;
+
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+
+/**
+ * Utility class for overriding the implicit wait of the driver for a scope.
+ * <pre>{@code
+ * try (var scope = Timeouts.implicit(Duration.ZERO)) {
+ *     boolean present = !driver.findElements(locator).isEmpty();
+ * }
+ * }</pre>
+ * The implicit wait of a driver is read once and cached in its {@link Session}, so scopes that do not change the
+ * value send no commands, and the others send one command to apply and one to restore the value.
+ * <p>
+ * A driver decorated with {@link Session#observe(WebDriver)} keeps the cache up to date. If the implicit wait is
+ * changed through an undecorated driver, {@link #forget()} should be called afterwards, otherwise the scopes
+ * restore the cached value.
+ */
+public class Timeouts {
+
+    protected Timeouts() {/*hidden*/}
+
+    /**
+     * A scope with an overridden implicit wait. Closing the scope restores the previous value.
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        /**
+         * Scope that did not change the implicit wait.
+         */
+        Scope NONE = () -> {
+        };
+
+        @Override
+        void close();
+    }
+
+    /**
+     * Overrides the implicit wait of the driver of the current thread, see {@link HTMLElement#currentDriver()},
+     * until the returned scope is closed.
+     * <p>
+     * Nothing is changed if the implicit wait already has the given value, or if the driver cannot report its
+     * implicit wait.
+     *
+     * @param timeout The implicit wait within the scope.
+     * @return The scope, which restores the previous value when closed.
+     */
+    public static Scope implicit(Duration timeout) {
+        SearchContext driver = HTMLElement.currentDriver();
+        if (!(driver instanceof WebDriver webDriver))
+            return Scope.NONE;
+        Session session = Session.of(driver);
+        Duration previous = getImplicitWait(webDriver, session);
+        if (previous == null || previous.equals(timeout))
+            return Scope.NONE;
+
+        set(webDriver, session, timeout);
+        return () -> set(webDriver, session, previous);
+    }
+
+    /**
+     * Retrieves the implicit wait of the driver of the current thread, reading it from the driver only if it is not
+     * cached, see {@link #forget()}.
+     *
+     * @return The implicit wait, or {@code null} if the driver cannot report it.
+     */
+    public static Duration getImplicitWait() {
+        SearchContext driver = HTMLElement.currentDriver();
+        if (!(driver instanceof WebDriver webDriver))
+            return null;
+        return getImplicitWait(webDriver, Session.of(driver));
+    }
+
+    /**
+     * Forgets the cached implicit wait of the driver of the current thread, so it is read again on the next use.
+     * Should be called after the implicit wait is changed through a driver that is not decorated with
+     * {@link Session#observe(WebDriver)}.
+     */
+    public static void forget() {
+        Session.current().implicitWait = null;
+    }
+
+    private static Duration getImplicitWait(WebDriver driver, Session session) {
+        Duration cached = session.implicitWait;
+        if (cached != null)
+            return cached;
+        try {
+            cached = driver.manage().timeouts().getImplicitWaitTimeout();
+        } catch (UnsupportedOperationException e) {
+            return null;
+        }
+        session.implicitWait = cached;
+        return cached;
+    }
+
+    private static void set(WebDriver driver, Session session, Duration timeout) {
+        try {
+            driver.manage().timeouts().implicitlyWait(timeout);
+        } catch (RuntimeException e) {
+            session.implicitWait = null;
+            throw e;
+        }
+        session.implicitWait = timeout;
+    }
+}
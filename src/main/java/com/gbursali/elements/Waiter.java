@@ -0,0 +1,107 @@
+package com.gbursali.elements;
+
+import org.awaitility.core.ConditionTimeoutException;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Utility class for polling a condition until it is satisfied, used by {@link HTMLElement.ElementWaiter}.
+ * <p>
+ * The condition is checked on the calling thread, without an executor or a builder per wait. The first check is
+ * immediate; the interval between the next checks starts at {@link #minInterval} and doubles up to
+ * {@link #maxInterval}, so a condition that is satisfied quickly returns quickly, and a long wait does not flood the
+ * driver with commands. A virtual thread releases its carrier thread while sleeping between the checks.
+ * <p>
+ * A check that throws {@link NoSuchElementException}, {@link StaleElementReferenceException} or
+ * {@link ElementNotInteractableException} counts as unsatisfied. Like awaitility's {@code ignoreException}, only
+ * these exact types are ignored, and every other exception is thrown to the caller.
+ */
+public class Waiter {
+
+    /**
+     * The maximum time to wait for a condition.
+     */
+    public static Duration timeout = Duration.ofSeconds(10);
+
+    /**
+     * The interval between the first two checks.
+     */
+    public static Duration minInterval = Duration.ofMillis(5);
+
+    /**
+     * The maximum interval between two checks.
+     */
+    public static Duration maxInterval = Duration.ofMillis(100);
+
+    protected Waiter() {/*hidden*/}
+
+    /**
+     * Waits until the condition is satisfied, for at most the {@link #timeout}.
+     *
+     * @param alias     Description of the wait, used in the timeout message.
+     * @param condition The condition to check.
+     * @throws ConditionTimeoutException If the condition is not satisfied within the timeout.
+     */
+    public static void until(String alias, BooleanSupplier condition) {
+        until(alias, timeout, condition);
+    }
+
+    /**
+     * Waits until the condition is satisfied.
+     *
+     * @param alias     Description of the wait, used in the timeout message.
+     * @param timeout   The maximum time to wait.
+     * @param condition The condition to check.
+     * @throws ConditionTimeoutException If the condition is not satisfied within the timeout.
+     * @throws IllegalStateException     If the thread is interrupted while waiting.
+     */
+    public static void until(String alias, Duration timeout, BooleanSupplier condition) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        long interval = minInterval.toNanos();
+        long cap = maxInterval.toNanos();
+        RuntimeException ignored = null;
+        while (true) {
+            try {
+                if (condition.getAsBoolean())
+                    return;
+            } catch (RuntimeException e) {
+                if (!isIgnored(e))
+                    throw e;
+                ignored = e;
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0)
+                throw new ConditionTimeoutException("Condition with alias '" + alias + "' didn't complete within "
+                        + timeout.toMillis() + " milliseconds.", ignored);
+            sleep(Math.min(interval, remaining), alias);
+            interval = Math.min(interval * 2, cap);
+        }
+    }
+
+    /**
+     * Checks if the exception means the element is not ready yet.
+     *
+     * @param e The exception thrown by the condition.
+     * @return {@code true} if the exception should be ignored, {@code false} otherwise.
+     */
+    private static boolean isIgnored(RuntimeException e) {
+        Class<?> type = e.getClass();
+        return type == NoSuchElementException.class
+                || type == StaleElementReferenceException.class
+                || type == ElementNotInteractableException.class;
+    }
+
+    private static void sleep(long nanos, String alias) {
+        try {
+            Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while " + alias.toLowerCase() + ".", e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.gbursali.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for the actions of an {@link com.gbursali.elements.HTMLElement}, such as click.
+ * <p>
+ * Disabled by default, enable {@code com.gbursali.ElementAction} in the recording settings to collect it.
+ */
+@Name("com.gbursali.ElementAction")
+@Label("Element Action")
+@Description("An interaction with a web element, including its waits")
+@Category({"Selenium Wrapper", "Elements"})
+@Enabled(false)
+@StackTrace(false)
+public class ElementActionEvent extends Event {
+    @Label("Locator")
+    public String locator;
+
+    @Label("Action")
+    public String action;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
@@ -0,0 +1,28 @@
+package com.gbursali.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for locating the web element of an {@link com.gbursali.elements.HTMLElement}.
+ * <p>
+ * Disabled by default, enable {@code com.gbursali.ElementLookup} in the recording settings to collect it.
+ */
+@Name("com.gbursali.ElementLookup")
+@Label("Element Lookup")
+@Description("Locating a web element through findElement")
+@Category({"Selenium Wrapper", "Elements"})
+@Enabled(false)
+@StackTrace(false)
+public class ElementLookupEvent extends Event {
+    @Label("Locator")
+    public String locator;
+
+    @Label("Found")
+    public boolean found;
+}
@@ -0,0 +1,35 @@
+package com.gbursali.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for the waits of an {@link com.gbursali.elements.HTMLElement.ElementWaiter}.
+ * <p>
+ * Disabled by default, enable {@code com.gbursali.ElementWait} in the recording settings to collect it.
+ */
+@Name("com.gbursali.ElementWait")
+@Label("Element Wait")
+@Description("Waiting for a condition of a web element")
+@Category({"Selenium Wrapper", "Elements"})
+@Enabled(false)
+@StackTrace(false)
+public class ElementWaitEvent extends Event {
+    @Label("Locator")
+    public String locator;
+
+    @Label("Condition")
+    public String condition;
+
+    @Label("Retry Count")
+    @Description("Number of times the condition was evaluated again after the first attempt")
+    public int retries;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
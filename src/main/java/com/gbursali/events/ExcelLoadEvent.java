@@ -0,0 +1,28 @@
+package com.gbursali.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for loading an {@link com.gbursali.excel.ExcelFile}.
+ * <p>
+ * Disabled by default, enable {@code com.gbursali.ExcelLoad} in the recording settings to collect it.
+ */
+@Name("com.gbursali.ExcelLoad")
+@Label("Excel Load")
+@Description("Opening an existing Excel file and reading its sheets")
+@Category({"Selenium Wrapper", "Excel"})
+@Enabled(false)
+@StackTrace(false)
+public class ExcelLoadEvent extends Event {
+    @Label("File")
+    public String file;
+
+    @Label("Sheet Count")
+    public int sheets;
+}
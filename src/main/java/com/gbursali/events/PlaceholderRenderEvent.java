@@ -0,0 +1,29 @@
+package com.gbursali.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for applying {@link com.gbursali.strings.Placeholders} to a string.
+ * <p>
+ * Disabled by default, enable {@code com.gbursali.PlaceholderRender} in the recording settings to collect it.
+ */
+@Name("com.gbursali.PlaceholderRender")
+@Label("Placeholder Render")
+@Description("Replacing the placeholders of a string")
+@Category({"Selenium Wrapper", "Strings"})
+@Enabled(false)
+@StackTrace(false)
+public class PlaceholderRenderEvent extends Event {
+    @Label("Keys")
+    @Description("Placeholder keys that were applied")
+    public String keys;
+
+    @Label("Input Length")
+    public int inputLength;
+}
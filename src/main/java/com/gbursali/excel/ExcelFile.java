@@ -1,5 +1,6 @@
 package com.gbursali.excel;
 
+import com.gbursali.events.ExcelLoadEvent;
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
 import org.apache.poi.openxml4j.opc.OPCPackage;
 import org.apache.poi.ss.usermodel.Sheet;
@@ -50,9 +51,17 @@ public class ExcelFile {
 	 * @return An ExcelFile instance representing the existing Excel file.
 	 */
 	public static ExcelFile fromExisting(File excelFile){
+		ExcelLoadEvent event = new ExcelLoadEvent();
+		event.begin();
 		try {
 			OPCPackage pkg = OPCPackage.open(excelFile);
-			return new ExcelFile(excelFile,new XSSFWorkbook(pkg));
+			ExcelFile file = new ExcelFile(excelFile,new XSSFWorkbook(pkg));
+			if (event.shouldCommit()) {
+				event.file = excelFile.getPath();
+				event.sheets = file.sheets.size();
+				event.commit();
+			}
+			return file;
 		} catch (IOException | InvalidFormatException e) {
 			throw new RuntimeException("Given excel file is not found");
 		}
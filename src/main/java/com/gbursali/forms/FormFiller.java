@@ -0,0 +1,136 @@
+package com.gbursali.forms;
+
+import com.gbursali.elements.BrowserScript;
+import com.gbursali.elements.Checkbox;
+import com.gbursali.elements.Dropdown;
+import com.gbursali.elements.ElementContext;
+import com.gbursali.elements.Textbox;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Applies a {@link FormModel} to the page.
+ * <p>
+ * Fields are applied in the order of the model. Every run of adjacent text inputs and checkboxes is written
+ * with a single {@code executeScript} call, while the fields that need real keyboard or mouse events (typed
+ * text inputs and dropdowns) are applied through WebDriver between the runs. Text inputs that rejected the
+ * scripted value are typed through WebDriver right after the script of their run.
+ */
+public class FormFiller {
+
+    protected FormFiller() {/*hidden*/}
+
+    /**
+     * Applies every field of the model and collects the results.
+     *
+     * @param model The form model to apply.
+     * @return The consolidated result of the form.
+     */
+    public static FormResult apply(FormModel model) {
+        List<FormModel.Field> fields = model.getFields();
+        ElementContext context = model.getContext();
+        FormResult.FieldResult[] results = new FormResult.FieldResult[fields.size()];
+
+        List<Integer> scripted = new ArrayList<>();
+        for (int i = 0; i < fields.size(); i++) {
+            FormModel.FieldType type = fields.get(i).type();
+            if (type == FormModel.FieldType.TEXTBOX || type == FormModel.FieldType.CHECKBOX) {
+                scripted.add(i);
+                continue;
+            }
+            applyScripted(context, fields, scripted, results);
+            scripted.clear();
+            results[i] = applyWithDriver(context, fields.get(i), FormResult.Outcome.WEBDRIVER);
+        }
+        applyScripted(context, fields, scripted, results);
+        return new FormResult(Arrays.asList(results));
+    }
+
+    /**
+     * Writes a run of adjacent scriptable fields with a single script. Text inputs that rejected the value are
+     * typed through WebDriver instead.
+     *
+     * @param context The context of the form.
+     * @param fields  Every field of the model.
+     * @param indexes Indexes of the scriptable fields of the run.
+     * @param results The results to fill, by field index.
+     */
+    private static void applyScripted(ElementContext context, List<FormModel.Field> fields, List<Integer> indexes, FormResult.FieldResult[] results) {
+        if (indexes.isEmpty())
+            return;
+
+        List<List<Object>> targets = new ArrayList<>();
+        for (int index : indexes) {
+            FormModel.Field field = fields.get(index);
+            List<Object> target = BrowserScript.toTarget(field.locator(), context);
+            target.add(field.type().name());
+            target.add(field.value());
+            targets.add(target);
+        }
+
+        Object result = BrowserScript.execute(BrowserScript.FIND_FUNCTION + BrowserScript.VALUE_FUNCTION + BrowserScript.CHECKED_FUNCTIONS + """
+                return arguments[0].map(function(target) {
+                    var e = target[0] ? (gbFind(target[0], target[1])[0] || null) : target[2];
+                    if (!e) return {found: false};
+                    if (target[3] === 'CHECKBOX') {
+                        gbSetChecked(e, target[4]);
+                        return {found: true, applied: gbIsChecked(e) === target[4]};
+                    }
+                    return {found: true, applied: gbSetValue(e, target[4]) === target[4]};
+                });
+                """, targets);
+
+        List<?> values = result instanceof List<?> list ? list : List.of();
+        for (int i = 0; i < indexes.size(); i++) {
+            int index = indexes.get(i);
+            FormModel.Field field = fields.get(index);
+            Map<?, ?> value = i < values.size() && values.get(i) instanceof Map<?, ?> map ? map : Map.of();
+            if (!Boolean.TRUE.equals(value.get("found")))
+                results[index] = new FormResult.FieldResult(field, FormResult.Outcome.FAILED, "Element is not found");
+            else if (Boolean.TRUE.equals(value.get("applied")))
+                results[index] = new FormResult.FieldResult(field, FormResult.Outcome.SCRIPTED, null);
+            else if (field.type() == FormModel.FieldType.CHECKBOX)
+                results[index] = new FormResult.FieldResult(field, FormResult.Outcome.FAILED, "Checkbox could not be set to " + field.value());
+            else
+                results[index] = applyWithDriver(context, field, FormResult.Outcome.FALLBACK);
+        }
+    }
+
+    /**
+     * Applies a single field through WebDriver.
+     *
+     * @param context The context of the form.
+     * @param field   The field to apply.
+     * @param outcome The outcome to report when the field is applied.
+     * @return The result of the field.
+     */
+    private static FormResult.FieldResult applyWithDriver(ElementContext context, FormModel.Field field, FormResult.Outcome outcome) {
+        String value = Objects.toString(field.value());
+        try {
+            switch (field.type()) {
+                case DROPDOWN -> {
+                    Dropdown dropdown = new Dropdown(field.locator());
+                    dropdown.within(context);
+                    dropdown.select(value);
+                }
+                case CHECKBOX -> {
+                    Checkbox checkbox = new Checkbox(field.locator());
+                    checkbox.within(context);
+                    checkbox.setChecked(Boolean.parseBoolean(value));
+                }
+                case TEXTBOX, TYPED_TEXTBOX -> {
+                    Textbox textbox = new Textbox(field.locator());
+                    textbox.within(context);
+                    textbox.clear().sendKeys(value);
+                }
+            }
+            return new FormResult.FieldResult(field, outcome, null);
+        } catch (RuntimeException e) {
+            return new FormResult.FieldResult(field, FormResult.Outcome.FAILED, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.gbursali.forms;
+
+import com.gbursali.elements.ElementContext;
+import org.openqa.selenium.By;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Describes the values to fill into a form, field by field, in the order they should be applied.
+ * <pre>{@code
+ * FormModel model = FormModel.of()
+ *         .textbox(By.id("name"), "John")
+ *         .checkbox(By.id("terms"), true)
+ *         .dropdown(By.id("role"), "Admin");
+ * FormResult result = FormFiller.apply(model);
+ * }</pre>
+ */
+public class FormModel {
+
+    /**
+     * Type of a form field, deciding how its value is applied.
+     */
+    public enum FieldType {
+        /**
+         * A text input, written by a script with {@code input} and {@code change} events.
+         */
+        TEXTBOX,
+        /**
+         * A text input that needs real keyboard events, typed through WebDriver.
+         */
+        TYPED_TEXTBOX,
+        /**
+         * A checkbox, set by a script.
+         */
+        CHECKBOX,
+        /**
+         * A dropdown, selected through WebDriver.
+         */
+        DROPDOWN
+    }
+
+    /**
+     * A single field of the form.
+     *
+     * @param locator The locator of the field.
+     * @param type    The type of the field.
+     * @param value   The value to apply, a {@link String} or a {@link Boolean} for checkboxes.
+     */
+    public record Field(By locator, FieldType type, Object value) {
+    }
+
+    private final List<Field> fields = new ArrayList<>();
+    private ElementContext context = ElementContext.current();
+
+    protected FormModel() {/*hidden*/}
+
+    /**
+     * Creates an empty form model.
+     *
+     * @return A {@link FormModel} object ready to receive fields.
+     */
+    public static FormModel of() {
+        return new FormModel();
+    }
+
+    /**
+     * Adds a text input that can be filled by a script.
+     *
+     * @param locator The locator of the text input.
+     * @param value   The text to fill.
+     * @return Instance itself for chain support.
+     */
+    public FormModel textbox(By locator, String value) {
+        return add(locator, FieldType.TEXTBOX, value);
+    }
+
+    /**
+     * Adds a text input that needs real keyboard events, such as a masked or auto-complete input.
+     *
+     * @param locator The locator of the text input.
+     * @param value   The text to type.
+     * @return Instance itself for chain support.
+     */
+    public FormModel typed(By locator, String value) {
+        return add(locator, FieldType.TYPED_TEXTBOX, value);
+    }
+
+    /**
+     * Adds a checkbox.
+     *
+     * @param locator The locator of the checkbox.
+     * @param checked The requested state of the checkbox.
+     * @return Instance itself for chain support.
+     */
+    public FormModel checkbox(By locator, boolean checked) {
+        return add(locator, FieldType.CHECKBOX, checked);
+    }
+
+    /**
+     * Adds a dropdown.
+     *
+     * @param locator The locator of the dropdown.
+     * @param option  The text of the option to select.
+     * @return Instance itself for chain support.
+     */
+    public FormModel dropdown(By locator, String option) {
+        return add(locator, FieldType.DROPDOWN, option);
+    }
+
+    /**
+     * Adds a field to the model.
+     * <p>
+     * The value of a checkbox is stored as a {@link Boolean}, so a {@code "true"} or {@code "false"} string,
+     * in any case, is accepted as well.
+     *
+     * @param locator The locator of the field.
+     * @param type    The type of the field.
+     * @param value   The value to apply.
+     * @return Instance itself for chain support.
+     * @throws IllegalArgumentException If the value of a checkbox is not a boolean.
+     */
+    public FormModel add(By locator, FieldType type, Object value) {
+        fields.add(new Field(locator, type, type == FieldType.CHECKBOX ? toChecked(locator, value) : value));
+        return this;
+    }
+
+    /**
+     * Converts the value of a checkbox into a {@link Boolean}.
+     *
+     * @param locator The locator of the checkbox, used in the error message.
+     * @param value   The value to convert.
+     * @return The requested state of the checkbox.
+     */
+    private static Boolean toChecked(By locator, Object value) {
+        if (value instanceof Boolean checked)
+            return checked;
+        if (value instanceof String text && (text.equalsIgnoreCase("true") || text.equalsIgnoreCase("false")))
+            return Boolean.valueOf(text);
+        throw new IllegalArgumentException("Checkbox value should be a boolean, was '" + value + "' for " + locator);
+    }
+
+    /**
+     * Places every field of the form inside the given frames and shadow roots, see
+     * {@link com.gbursali.elements.HTMLElement#within(ElementContext)}.
+     *
+     * @param context The context of the form.
+     * @return Instance itself for chain support.
+     */
+    public FormModel within(ElementContext context) {
+        this.context = context;
+        return this;
+    }
+
+    /**
+     * Retrieves the context of the form.
+     *
+     * @return The context the fields are searched in.
+     */
+    public ElementContext getContext() {
+        return context;
+    }
+
+    /**
+     * Retrieves the fields of the model.
+     *
+     * @return The fields, in the order they were added.
+     */
+    public List<Field> getFields() {
+        return List.copyOf(fields);
+    }
+}
@@ -0,0 +1,77 @@
+package com.gbursali.forms;
+
+import org.junit.Assert;
+
+import java.util.List;
+
+/**
+ * Consolidated result of applying a {@link FormModel}.
+ *
+ * @param fields The results of the fields, in the order of the model.
+ */
+public record FormResult(List<FieldResult> fields) {
+
+    /**
+     * How the value of a field was applied.
+     */
+    public enum Outcome {
+        /**
+         * Applied by the batched script.
+         */
+        SCRIPTED,
+        /**
+         * Rejected by the page when set by the script, then typed through WebDriver.
+         */
+        FALLBACK,
+        /**
+         * Applied through WebDriver.
+         */
+        WEBDRIVER,
+        /**
+         * Could not be applied.
+         */
+        FAILED
+    }
+
+    /**
+     * Result of a single field.
+     *
+     * @param field   The field of the model.
+     * @param outcome How the value was applied.
+     * @param message Description of the failure, {@code null} if the field did not fail.
+     */
+    public record FieldResult(FormModel.Field field, Outcome outcome, String message) {
+    }
+
+    /**
+     * Retrieves the fields that could not be applied.
+     *
+     * @return The failed fields.
+     */
+    public List<FieldResult> failures() {
+        return fields.stream()
+                .filter(x -> x.outcome() == Outcome.FAILED)
+                .toList();
+    }
+
+    /**
+     * Checks if every field was applied.
+     *
+     * @return {@code true} if no field failed, {@code false} otherwise.
+     */
+    public boolean isSuccessful() {
+        return failures().isEmpty();
+    }
+
+    /**
+     * Asserts that every field was applied, reporting every failed field at once.
+     */
+    public void verify() {
+        List<String> failures = failures().stream()
+                .map(x -> x.field().locator() + ": " + x.message())
+                .toList();
+        if (!failures.isEmpty())
+            Assert.fail(failures.size() + " of " + fields.size() + " form fields could not be filled:\n - "
+                    + String.join("\n - ", failures));
+    }
+}
@@ -24,4 +24,15 @@ public interface IPopupForm<T> {
      */
 
     void cancel();
+
+    /**
+     * Fills the popup form with the given values, batching the scriptable fields into a single browser call.
+     *
+     * @param model The values to fill into the form.
+     * @return The consolidated result of the form, see {@link FormFiller#apply(FormModel)}.
+     */
+
+    default FormResult fill(FormModel model) {
+        return FormFiller.apply(model);
+    }
 }
@@ -1,46 +1,176 @@
 package com.gbursali.locators;
+import com.gbursali.metrics.WrapperMetrics;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 /**
  * Utility class for finding locators in Selenium based on a JSON configuration.
+ * <p>
+ * The JSON is compiled once into an immutable index from the key to its {@link By}, so {@link #locate(String)} is
+ * a single map lookup. Every entry is checked while compiling, and the invalid ones are reported at once.
  */
 public class LocatorFinder {
     private static final Pattern xpathPattern = Pattern.compile("^((body)|(\\/\\/)).*");
-    private final JsonObject baseJson;
+    private volatile Map<String, By> locators;
 
     /**
      * Constructs a LocatorFinder with the provided JSON object containing locators.
      *
      * @param locatorList The JSON object containing locators.
+     * @throws IllegalArgumentException If a locator is not a non-blank string.
      */
     protected LocatorFinder(JsonObject locatorList) {
-        this.baseJson = locatorList;
+        Map<String, By> compiled = new HashMap<>();
+        List<String> problems = new ArrayList<>();
+        for (Map.Entry<String, JsonElement> entry : locatorList.entrySet()) {
+            JsonElement value = entry.getValue();
+            if (!value.isJsonPrimitive() || !value.getAsJsonPrimitive().isString())
+                problems.add(entry.getKey() + " should be a string, but was: " + value);
+            else
+                add(compiled, problems, entry.getKey(), value.getAsString());
+        }
+        this.locators = verified(compiled, problems, "JSON");
+    }
+
+    LocatorFinder(Map<String, By> locators) {
+        this.locators = locators;
     }
 
     /**
      * Creates a LocatorFinder instance by reading locators from a JSON file.
+     * <p>
+     * Unlike {@link JsonObject}, which keeps the last of the duplicate keys, the file is read as a stream, so
+     * duplicate keys are reported as well.
      *
      * @param file The path to the JSON file containing locators.
      * @return A LocatorFinder instance initialized with locators from the file.
-     * @throws IllegalStateException If the file is not found or cannot be read.
+     * @throws IllegalStateException    If the file is not found or cannot be read.
+     * @throws IllegalArgumentException If a key is duplicated, or a locator is not a non-blank string.
+     * @throws JsonSyntaxException      If the file is not valid JSON, is truncated, or does not contain a JSON
+     *                                  object.
      */
     public static LocatorFinder ofFile(Path file) {
-        try {
-            String contents = Files.readString(file);
-            return new LocatorFinder(JsonParser.parseString(contents).getAsJsonObject());
-        } catch (IOException e) {
+        return new LocatorFinder(compile(file));
+    }
+
+    /**
+     * Creates a LocatorFinder instance that reloads the locators whenever the JSON file changes, see
+     * {@link ReloadingLocatorFinder}.
+     *
+     * @param file The path to the JSON file containing locators.
+     * @return A LocatorFinder instance initialized with locators from the file, which should be closed to stop
+     * watching the file.
+     * @throws IllegalStateException    If the file is not found or cannot be watched.
+     * @throws IllegalArgumentException If a key is duplicated, or a locator is not a non-blank string.
+     * @throws JsonSyntaxException      If the file is not valid JSON.
+     */
+    public static ReloadingLocatorFinder watching(Path file) {
+        return new ReloadingLocatorFinder(file);
+    }
+
+    /**
+     * Reads the locators of the file into an immutable index.
+     * <p>
+     * The file is read leniently like {@link com.google.gson.JsonParser}, so comments, single quotes and unquoted
+     * names are accepted.
+     *
+     * @param file The path to the JSON file containing locators.
+     * @return The locators by their keys.
+     */
+    static Map<String, By> compile(Path file) {
+        Map<String, By> compiled = new HashMap<>();
+        List<String> problems = new ArrayList<>();
+        Set<String> keys = new HashSet<>();
+        try (JsonReader reader = new JsonReader(Files.newBufferedReader(file))) {
+            reader.setLenient(true);
+            if (reader.peek() != JsonToken.BEGIN_OBJECT)
+                throw new JsonSyntaxException("Locator file should contain a JSON object, but was " + reader.peek()
+                        + ": " + file.toAbsolutePath());
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String key = reader.nextName();
+                if (!keys.add(key)) {
+                    problems.add(key + " is defined more than once");
+                    reader.skipValue();
+                } else if (reader.peek() != JsonToken.STRING) {
+                    problems.add(key + " should be a string, but was: " + reader.peek());
+                    reader.skipValue();
+                } else {
+                    add(compiled, problems, key, reader.nextString());
+                }
+            }
+            reader.endObject();
+            if (reader.peek() != JsonToken.END_DOCUMENT)
+                throw new JsonSyntaxException("Unexpected content after the locators at " + reader);
+        } catch (MalformedJsonException e) {
+            throw new JsonSyntaxException("Locator file is not valid JSON: " + file.toAbsolutePath(), e);
+        } catch (EOFException e) {
+            throw new JsonSyntaxException("Locator file ends unexpectedly: " + file.toAbsolutePath(), e);
+        } catch (NoSuchFileException e) {
             throw new IllegalStateException("File not found on: " + file.toAbsolutePath(), e);
+        } catch (IOException e) {
+            throw new IllegalStateException("File cannot be read: " + file.toAbsolutePath(), e);
         }
+        return verified(compiled, problems, file.toAbsolutePath().toString());
+    }
+
+    /**
+     * Compiles a locator into the index, or records why it is invalid.
+     *
+     * @param compiled The index to add the locator to.
+     * @param problems The problems found so far.
+     * @param key      The key of the locator.
+     * @param locator  The locator string.
+     */
+    private static void add(Map<String, By> compiled, List<String> problems, String key, String locator) {
+        if (locator.isBlank())
+            problems.add(key + " should not be blank");
+        else
+            compiled.put(key, returnWithType(locator));
+    }
+
+    /**
+     * Freezes the index, if no problem is found.
+     *
+     * @param compiled The compiled index.
+     * @param problems The problems found while compiling.
+     * @param source   Description of the source, used in the error message.
+     * @return The immutable index.
+     * @throws IllegalArgumentException If a problem is found.
+     */
+    private static Map<String, By> verified(Map<String, By> compiled, List<String> problems, String source) {
+        if (!problems.isEmpty())
+            throw new IllegalArgumentException("Invalid locators in " + source + ":\n - " + String.join("\n - ", problems));
+        return Map.copyOf(compiled);
+    }
+
+    /**
+     * Replaces the index with a newly compiled one. Readers see either the previous or the new index as a whole.
+     *
+     * @param locators The new index.
+     */
+    void swap(Map<String, By> locators) {
+        this.locators = locators;
     }
 
     /**
@@ -49,7 +179,7 @@ public class LocatorFinder {
      * @param locator The locator string.
      * @return A By instance representing the locator type.
      */
-    private By returnWithType(String locator) {
+    private static By returnWithType(String locator) {
         if (xpathPattern.matcher(locator).find())
             return By.xpath(locator);
         return By.cssSelector(locator);
@@ -63,10 +193,15 @@ public class LocatorFinder {
      * @throws IllegalArgumentException If the key is not present in the JSON configuration.
      */
     public By locate(String key) {
-        if (!baseJson.has(key))
-            throw new IllegalArgumentException("JSON does not have the key: " + key);
-        String locator = baseJson.get(key).getAsString();
-        return returnWithType(locator);
+        long start = WrapperMetrics.start();
+        try {
+            By locator = key == null ? null : locators.get(key);
+            if (locator == null)
+                throw new IllegalArgumentException("JSON does not have the key: " + key);
+            return locator;
+        } finally {
+            WrapperMetrics.record("locate", key, start);
+        }
     }
 
     /**
@@ -0,0 +1,181 @@
+package com.gbursali.locators;
+
+import org.openqa.selenium.By;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link LocatorFinder} that reloads its locators whenever the JSON file changes, created with
+ * {@link LocatorFinder#watching(Path)}.
+ * <pre>{@code
+ * try (var locators = LocatorFinder.watching(Path.of("locators.json"))) {
+ *     new HTMLElement(locators.locate("LoginButton")).click();
+ * }
+ * }</pre>
+ * The directory of the file is watched by a daemon thread. On a change, the file is compiled in the background and
+ * the new index replaces the previous one at once, so {@link #locate(String)} stays a lock-free lookup and never
+ * sees a partially loaded file. If the changed file is invalid, the previous locators are kept and the failure is
+ * available from {@link #getLastFailure()} until a valid version is loaded. A file caught in the middle of a write
+ * is reported as a {@link com.google.gson.JsonSyntaxException}, and is loaded again when the write completes.
+ */
+public class ReloadingLocatorFinder extends LocatorFinder implements AutoCloseable {
+
+    /**
+     * Time to wait for the file to settle after a change, so the events of a single save cause a single reload.
+     */
+    private static final long SETTLE_MILLIS = 50;
+
+    private final Path file;
+    private final WatchService watcher;
+    private final AtomicLong reloads = new AtomicLong();
+    private volatile RuntimeException lastFailure;
+
+    /**
+     * Starts watching the file, then loads its locators, so a change made while loading is not missed.
+     *
+     * @param file The path to the JSON file containing locators.
+     * @throws IllegalStateException If the file is not found or cannot be watched.
+     */
+    ReloadingLocatorFinder(Path file) {
+        this(file.toAbsolutePath(), watch(file.toAbsolutePath()));
+    }
+
+    private ReloadingLocatorFinder(Path file, WatchService watcher) {
+        super(compileOrClose(file, watcher));
+        this.file = file;
+        this.watcher = watcher;
+        Thread thread = new Thread(this::watch, "locator-watcher-" + file.getFileName());
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Registers a watcher on the directory of the file.
+     *
+     * @param file The absolute path of the file.
+     * @return The registered watcher.
+     * @throws IllegalStateException If the file cannot be watched.
+     */
+    private static WatchService watch(Path file) {
+        WatchService watcher;
+        try {
+            watcher = file.getFileSystem().newWatchService();
+        } catch (IOException e) {
+            throw new IllegalStateException("File cannot be watched: " + file, e);
+        }
+        try {
+            file.getParent().register(watcher, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            close(watcher);
+            throw new IllegalStateException("File cannot be watched: " + file, e);
+        }
+        return watcher;
+    }
+
+    /**
+     * Compiles the file, closing the watcher if the file is invalid.
+     *
+     * @param file    The path to the JSON file containing locators.
+     * @param watcher The watcher registered for the file.
+     * @return The locators by their keys.
+     */
+    private static Map<String, By> compileOrClose(Path file, WatchService watcher) {
+        try {
+            return compile(file);
+        } catch (RuntimeException e) {
+            close(watcher);
+            throw e;
+        }
+    }
+
+    /**
+     * Retrieves the number of successful reloads since the file started to be watched.
+     *
+     * @return The number of reloads.
+     */
+    public long getReloadCount() {
+        return reloads.get();
+    }
+
+    /**
+     * Retrieves the failure of the last reload.
+     *
+     * @return The reason the last changed version of the file is rejected, {@code null} if it is loaded.
+     */
+    public RuntimeException getLastFailure() {
+        return lastFailure;
+    }
+
+    /**
+     * Stops watching the file. The last loaded locators stay available.
+     */
+    @Override
+    public void close() {
+        close(watcher);
+    }
+
+    private static void close(WatchService watcher) {
+        try {
+            watcher.close();
+        } catch (IOException e) {
+            // The watcher is discarded either way.
+        }
+    }
+
+    /**
+     * Reloads the locators on every change of the file, until the watcher is closed.
+     */
+    private void watch() {
+        try {
+            while (true) {
+                if (isChanged(watcher.take())) {
+                    WatchKey next;
+                    while ((next = watcher.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null)
+                        isChanged(next);
+                    reload();
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            // Closed, stop watching.
+        }
+    }
+
+    /**
+     * Checks if the events of the key concern the file, and rearms the key.
+     *
+     * @param key The signalled key.
+     * @return {@code true} if the file may have changed, {@code false} otherwise.
+     */
+    private boolean isChanged(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || file.getFileName().equals(event.context()))
+                changed = true;
+        }
+        key.reset();
+        return changed;
+    }
+
+    /**
+     * Compiles the file and swaps the new index in, keeping the previous one if the file is invalid.
+     */
+    private void reload() {
+        try {
+            swap(compile(file));
+            lastFailure = null;
+            reloads.incrementAndGet();
+        } catch (RuntimeException e) {
+            lastFailure = e;
+        }
+    }
+}
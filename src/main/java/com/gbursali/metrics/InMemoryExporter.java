@@ -0,0 +1,38 @@
+package com.gbursali.metrics;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Exporter that keeps the last exported snapshots in memory.
+ */
+public class InMemoryExporter implements MetricsExporter {
+    private volatile List<MetricsSnapshot> snapshots = List.of();
+
+    @Override
+    public void export(List<MetricsSnapshot> snapshots) {
+        this.snapshots = List.copyOf(snapshots);
+    }
+
+    /**
+     * Retrieves the last exported snapshots.
+     *
+     * @return The snapshots, or an empty list if nothing has been exported yet.
+     */
+    public List<MetricsSnapshot> getSnapshots() {
+        return snapshots;
+    }
+
+    /**
+     * Retrieves the operation and locator pairs with the highest total time.
+     *
+     * @param limit Maximum number of entries to return.
+     * @return The slowest entries, slowest first.
+     */
+    public List<MetricsSnapshot> slowest(int limit) {
+        return snapshots.stream()
+                .sorted(Comparator.comparingLong(MetricsSnapshot::totalNanos).reversed())
+                .limit(limit)
+                .toList();
+    }
+}
@@ -0,0 +1,38 @@
+package com.gbursali.metrics;
+
+import com.google.gson.GsonBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Exporter that writes the snapshots into a JSON file.
+ */
+public class JsonFileExporter implements MetricsExporter {
+    private final Path file;
+
+    /**
+     * Creates an exporter writing into the given file. The file is overwritten on every export.
+     *
+     * @param file The path of the JSON file.
+     */
+    public JsonFileExporter(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public void export(List<MetricsSnapshot> snapshots) {
+        String json = new GsonBuilder()
+                .setPrettyPrinting()
+                .create()
+                .toJson(snapshots);
+        try {
+            Files.writeString(file, json);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Metrics cannot be written to: " + file.toAbsolutePath(), e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.gbursali.metrics;
+
+import java.util.List;
+
+/**
+ * Receives the collected wrapper metrics, see {@link WrapperMetrics#export(MetricsExporter)}.
+ */
+@FunctionalInterface
+public interface MetricsExporter {
+    /**
+     * Exports the given snapshots.
+     *
+     * @param snapshots The snapshots of every recorded operation and locator pair.
+     */
+    void export(List<MetricsSnapshot> snapshots);
+}
@@ -0,0 +1,24 @@
+package com.gbursali.metrics;
+
+/**
+ * Point-in-time copy of the counters of an operation on a locator.
+ *
+ * @param operation  Name of the operation, such as {@code click} or {@code wait.clickability}.
+ * @param locator    Locator or key the operation was performed on.
+ * @param count      Number of recorded calls.
+ * @param totalNanos Total time spent in the calls, in nanoseconds.
+ * @param maxNanos   Duration of the slowest call, in nanoseconds.
+ * @param histogram  Call counts per latency bucket, see {@link OperationStats}.
+ */
+public record MetricsSnapshot(String operation, String locator, long count, long totalNanos, long maxNanos,
+                              long[] histogram) {
+
+    /**
+     * Calculates the average duration of the calls.
+     *
+     * @return The average duration in nanoseconds, or {@code 0} if there are no calls.
+     */
+    public long averageNanos() {
+        return count == 0 ? 0 : totalNanos / count;
+    }
+}
@@ -0,0 +1,61 @@
+package com.gbursali.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency counters of a single operation on a single locator.
+ * <p>
+ * Latencies are kept in a histogram with power-of-two microsecond buckets: bucket {@code 0} holds calls
+ * faster than 1 microsecond, and bucket {@code i} holds calls between {@code 2^(i-1)} and {@code 2^i} microseconds.
+ */
+public class OperationStats {
+    /**
+     * Number of histogram buckets, the last one collects every call slower than ~35 minutes.
+     */
+    public static final int BUCKETS = 32;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+    /**
+     * Records a single call.
+     *
+     * @param nanos Duration of the call in nanoseconds.
+     */
+    public void record(long nanos) {
+        count.increment();
+        totalNanos.add(nanos);
+        if (nanos > maxNanos.get())
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        histogram.incrementAndGet(bucketOf(nanos));
+    }
+
+    /**
+     * Finds the histogram bucket of the given duration.
+     *
+     * @param nanos Duration in nanoseconds.
+     * @return Index of the bucket.
+     */
+    static int bucketOf(long nanos) {
+        long micros = nanos / 1_000;
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+    }
+
+    /**
+     * Takes a point-in-time copy of the counters.
+     *
+     * @param operation Name of the operation.
+     * @param locator   Locator or key the operation was performed on.
+     * @return The snapshot of the counters.
+     */
+    public MetricsSnapshot snapshot(String operation, String locator) {
+        long[] buckets = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++)
+            buckets[i] = histogram.get(i);
+        return new MetricsSnapshot(operation, locator, count.sum(), totalNanos.sum(), maxNanos.get(), buckets);
+    }
+}
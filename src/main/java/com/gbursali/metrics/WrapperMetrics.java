@@ -0,0 +1,129 @@
+package com.gbursali.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects call counts and latencies of the wrapper operations per operation and locator.
+ * <p>
+ * Metrics are disabled by default. When disabled, {@link #start()} returns {@code 0} and
+ * {@link #record(String, Object, long)} returns immediately, so the instrumented methods only pay for a
+ * volatile read.
+ * <pre>{@code
+ * WrapperMetrics.enable();
+ * WrapperMetrics.exportOnShutdown(new JsonFileExporter(Path.of("target", "wrapper-metrics.json")));
+ * }</pre>
+ */
+public class WrapperMetrics {
+    private static volatile boolean enabled = false;
+
+    /**
+     * Counters per operation, then per locator. Locators are kept as-is and only converted to text on snapshot.
+     */
+    private static final Map<String, Map<Object, OperationStats>> operations = new ConcurrentHashMap<>();
+
+    protected WrapperMetrics() {/*hidden*/}
+
+    /**
+     * Starts collecting metrics.
+     */
+    public static void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Stops collecting metrics. Already collected values are kept.
+     */
+    public static void disable() {
+        enabled = false;
+    }
+
+    /**
+     * Checks if metrics are being collected.
+     *
+     * @return {@code true} if enabled, {@code false} otherwise.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Clears every collected value.
+     */
+    public static void reset() {
+        operations.clear();
+    }
+
+    /**
+     * Marks the start of an operation.
+     *
+     * @return The current {@link System#nanoTime()}, or {@code 0} if metrics are disabled.
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records an operation started with {@link #start()}.
+     *
+     * @param operation Name of the operation.
+     * @param locator   Locator or key the operation was performed on.
+     * @param start     Value returned by {@link #start()}.
+     */
+    public static void record(String operation, Object locator, long start) {
+        if (start == 0)
+            return;
+        long duration = System.nanoTime() - start;
+        statsOf(operation, locator).record(duration);
+    }
+
+    /**
+     * Finds the counters of the operation and locator pair, creating them on the first call.
+     *
+     * @param operation Name of the operation.
+     * @param locator   Locator or key the operation was performed on.
+     * @return The counters of the pair.
+     */
+    private static OperationStats statsOf(String operation, Object locator) {
+        Map<Object, OperationStats> locators = operations.get(operation);
+        if (locators == null)
+            locators = operations.computeIfAbsent(operation, x -> new ConcurrentHashMap<>());
+        Object key = locator == null ? "" : locator;
+        OperationStats stats = locators.get(key);
+        if (stats == null)
+            stats = locators.computeIfAbsent(key, x -> new OperationStats());
+        return stats;
+    }
+
+    /**
+     * Takes a snapshot of every recorded operation and locator pair.
+     *
+     * @return The list of snapshots.
+     */
+    public static List<MetricsSnapshot> snapshot() {
+        List<MetricsSnapshot> snapshots = new ArrayList<>();
+        operations.forEach((operation, locators) ->
+                locators.forEach((locator, stats) -> snapshots.add(stats.snapshot(operation, locator.toString()))));
+        return snapshots;
+    }
+
+    /**
+     * Exports a snapshot of the current values.
+     *
+     * @param exporter The exporter to receive the snapshot.
+     */
+    public static void export(MetricsExporter exporter) {
+        exporter.export(snapshot());
+    }
+
+    /**
+     * Exports the collected values when the JVM shuts down.
+     *
+     * @param exporter The exporter to receive the final snapshot.
+     */
+    public static void exportOnShutdown(MetricsExporter exporter) {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> export(exporter), "wrapper-metrics-export"));
+    }
+}
@@ -0,0 +1,84 @@
+package com.gbursali.parallel;
+
+import org.junit.Assert;
+import org.openqa.selenium.SearchContext;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Consolidated result of running an action on several sessions with {@link SessionFanOut}.
+ *
+ * @param sessions The results of the sessions, in the order of the drivers.
+ * @param elapsed  Wall time of the whole run.
+ * @param <D>      The type of the drivers.
+ * @param <R>      The type of the action results.
+ */
+public record FanOutResult<D extends SearchContext, R>(List<SessionResult<D, R>> sessions, Duration elapsed) {
+
+    /**
+     * Result of the action on a single session.
+     *
+     * @param driver  The driver of the session.
+     * @param result  The value returned by the action, {@code null} if it failed.
+     * @param failure The exception thrown by the action, {@code null} if it succeeded.
+     * @param elapsed Wall time of the action on this session.
+     * @param <D>     The type of the driver.
+     * @param <R>     The type of the action result.
+     */
+    public record SessionResult<D extends SearchContext, R>(D driver, R result, Throwable failure, Duration elapsed) {
+
+        /**
+         * Checks if the action completed on this session.
+         *
+         * @return {@code true} if the action did not throw, {@code false} otherwise.
+         */
+        public boolean isSuccessful() {
+            return failure == null;
+        }
+    }
+
+    /**
+     * Retrieves the results of the successful sessions.
+     *
+     * @return The values returned by the action, in the order of the drivers.
+     */
+    public List<R> results() {
+        return sessions.stream()
+                .filter(SessionResult::isSuccessful)
+                .map(SessionResult::result)
+                .toList();
+    }
+
+    /**
+     * Retrieves the sessions on which the action failed.
+     *
+     * @return The failed sessions.
+     */
+    public List<SessionResult<D, R>> failures() {
+        return sessions.stream()
+                .filter(x -> !x.isSuccessful())
+                .toList();
+    }
+
+    /**
+     * Checks if the action completed on every session.
+     *
+     * @return {@code true} if no session failed, {@code false} otherwise.
+     */
+    public boolean isSuccessful() {
+        return failures().isEmpty();
+    }
+
+    /**
+     * Asserts that the action completed on every session, reporting every failed session at once.
+     */
+    public void verify() {
+        List<String> failures = failures().stream()
+                .map(x -> x.driver() + ": " + x.failure())
+                .toList();
+        if (!failures.isEmpty())
+            Assert.fail(failures.size() + " of " + sessions.size() + " sessions failed:\n - "
+                    + String.join("\n - ", failures));
+    }
+}
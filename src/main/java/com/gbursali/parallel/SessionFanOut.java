@@ -0,0 +1,103 @@
+package com.gbursali.parallel;
+
+import com.gbursali.elements.HTMLElement;
+import org.openqa.selenium.SearchContext;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Utility class for running the same action on several driver sessions concurrently.
+ * <p>
+ * Every session runs on its own virtual thread, with its driver bound to the thread by
+ * {@link HTMLElement#bindDriver(SearchContext)}, so the elements and page objects created inside the action
+ * use that session instead of the shared {@link HTMLElement#driver}.
+ * <pre>{@code
+ * FanOutResult<WebDriver, String> result = SessionFanOut.run(drivers, driver -> {
+ *     LoginPage page = new LoginPage(driver);
+ *     page.login(user);
+ *     return page.getWelcomeText();
+ * });
+ * result.verify();
+ * }</pre>
+ */
+public class SessionFanOut {
+
+    protected SessionFanOut() {/*hidden*/}
+
+    /**
+     * Runs the action on every driver concurrently and waits for all of them to complete.
+     * <p>
+     * A failing session does not stop the others; its exception is collected into the result.
+     *
+     * @param drivers The drivers of the sessions.
+     * @param action  The action to run, receiving the driver of its session.
+     * @param <D>     The type of the drivers.
+     * @param <R>     The type of the action results.
+     * @return The results and failures of every session.
+     */
+    public static <D extends SearchContext, R> FanOutResult<D, R> run(List<D> drivers, Function<D, R> action) {
+        long start = System.nanoTime();
+        List<Future<FanOutResult.SessionResult<D, R>>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (D driver : drivers)
+                futures.add(executor.submit(() -> runBound(driver, action)));
+        }
+
+        List<FanOutResult.SessionResult<D, R>> sessions = new ArrayList<>();
+        for (Future<FanOutResult.SessionResult<D, R>> future : futures) {
+            try {
+                sessions.add(future.get());
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Session task could not complete.", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the sessions.", e);
+            }
+        }
+        return new FanOutResult<>(sessions, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Runs the action on every driver concurrently and waits for all of them to complete,
+     * see {@link #run(List, Function)}.
+     *
+     * @param drivers The drivers of the sessions.
+     * @param action  The action to run, receiving the driver of its session.
+     * @param <D>     The type of the drivers.
+     * @return The failures of every session.
+     */
+    public static <D extends SearchContext> FanOutResult<D, Void> runEach(List<D> drivers, Consumer<D> action) {
+        return run(drivers, driver -> {
+            action.accept(driver);
+            return null;
+        });
+    }
+
+    /**
+     * Runs the action with the driver bound to the current thread.
+     *
+     * @param driver The driver of the session.
+     * @param action The action to run.
+     * @return The result of the session.
+     */
+    private static <D extends SearchContext, R> FanOutResult.SessionResult<D, R> runBound(D driver, Function<D, R> action) {
+        long start = System.nanoTime();
+        HTMLElement.bindDriver(driver);
+        try {
+            R result = action.apply(driver);
+            return new FanOutResult.SessionResult<>(driver, result, null, Duration.ofNanos(System.nanoTime() - start));
+        } catch (Exception | AssertionError e) {
+            return new FanOutResult.SessionResult<>(driver, null, e, Duration.ofNanos(System.nanoTime() - start));
+        } finally {
+            HTMLElement.bindDriver(null);
+        }
+    }
+}
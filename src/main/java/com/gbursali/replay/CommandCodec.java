@@ -0,0 +1,187 @@
+package com.gbursali.replay;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Converts the arguments and the results of WebDriver commands into JSON and back.
+ * <p>
+ * Browser-side objects, like web elements, are encoded as references to handles, which are resolved by the
+ * recorder and the replayer respectively.
+ */
+final class CommandCodec {
+    static final String REF = "$ref";
+    static final String TYPE = "$type";
+    static final String BY = "$by";
+    static final String DURATION = "$duration";
+    static final String BYTES = "$bytes";
+    static final String POINT = "$point";
+    static final String DIMENSION = "$dimension";
+    static final String RECTANGLE = "$rectangle";
+
+    private CommandCodec() {/*hidden*/}
+
+    /**
+     * Encodes a value into JSON.
+     *
+     * @param value   The value to encode.
+     * @param handles Encodes the browser-side objects, returns {@code null} for any other value.
+     * @return The JSON representation of the value.
+     */
+    static JsonElement encode(Object value, Function<Object, JsonElement> handles) {
+        if (value == null)
+            return JsonNull.INSTANCE;
+        JsonElement handle = handles.apply(value);
+        if (handle != null)
+            return handle;
+        if (value instanceof Boolean bool)
+            return new JsonPrimitive(bool);
+        if (value instanceof Number number)
+            return new JsonPrimitive(number);
+        if (value instanceof CharSequence || value instanceof Character || value instanceof Enum<?>)
+            return new JsonPrimitive(value.toString());
+        if (value instanceof By by)
+            return tagged(BY, new JsonPrimitive(by.toString()));
+        if (value instanceof Duration duration)
+            return tagged(DURATION, new JsonPrimitive(duration.toNanos()));
+        if (value instanceof byte[] bytes)
+            return tagged(BYTES, new JsonPrimitive(Base64.getEncoder().encodeToString(bytes)));
+        if (value instanceof Point point)
+            return tagged(POINT, numbers(point.getX(), point.getY()));
+        if (value instanceof Dimension dimension)
+            return tagged(DIMENSION, numbers(dimension.getWidth(), dimension.getHeight()));
+        if (value instanceof Rectangle rect)
+            return tagged(RECTANGLE, numbers(rect.getX(), rect.getY(), rect.getHeight(), rect.getWidth()));
+        if (value instanceof Map<?, ?> map) {
+            JsonObject object = new JsonObject();
+            map.forEach((key, item) -> object.add(String.valueOf(key), encode(item, handles)));
+            return object;
+        }
+        JsonArray array = new JsonArray();
+        if (value instanceof Iterable<?> iterable) {
+            iterable.forEach(item -> array.add(encode(item, handles)));
+            return array;
+        }
+        if (value.getClass().isArray()) {
+            for (int i = 0; i < Array.getLength(value); i++)
+                array.add(encode(Array.get(value, i), handles));
+            return array;
+        }
+        return new JsonPrimitive(value.toString());
+    }
+
+    /**
+     * Decodes a value from JSON.
+     *
+     * @param json    The JSON representation of the value.
+     * @param type    The type that the value is expected to have.
+     * @param handles Resolves the handle references into browser-side objects.
+     * @return The decoded value.
+     */
+    static Object decode(JsonElement json, Class<?> type, Function<JsonObject, Object> handles) {
+        if (json == null || json.isJsonNull())
+            return null;
+        if (json.isJsonPrimitive())
+            return decodePrimitive(json.getAsJsonPrimitive(), type);
+        if (json.isJsonArray()) {
+            List<Object> list = new ArrayList<>();
+            for (JsonElement item : json.getAsJsonArray())
+                list.add(decode(item, Object.class, handles));
+            return Set.class.isAssignableFrom(type) ? new LinkedHashSet<>(list) : list;
+        }
+        JsonObject object = json.getAsJsonObject();
+        if (object.has(REF))
+            return handles.apply(object);
+        if (object.has(DURATION))
+            return Duration.ofNanos(object.get(DURATION).getAsLong());
+        if (object.has(BYTES))
+            return Base64.getDecoder().decode(object.get(BYTES).getAsString());
+        if (object.has(POINT)) {
+            JsonArray values = object.get(POINT).getAsJsonArray();
+            return new Point(values.get(0).getAsInt(), values.get(1).getAsInt());
+        }
+        if (object.has(DIMENSION)) {
+            JsonArray values = object.get(DIMENSION).getAsJsonArray();
+            return new Dimension(values.get(0).getAsInt(), values.get(1).getAsInt());
+        }
+        if (object.has(RECTANGLE)) {
+            JsonArray values = object.get(RECTANGLE).getAsJsonArray();
+            return new Rectangle(values.get(0).getAsInt(), values.get(1).getAsInt(),
+                    values.get(2).getAsInt(), values.get(3).getAsInt());
+        }
+        Map<String, Object> map = new LinkedHashMap<>();
+        object.entrySet().forEach(x -> map.put(x.getKey(), decode(x.getValue(), Object.class, handles)));
+        return map;
+    }
+
+    /**
+     * Recreates a recorded exception, falling back to the given type if the recorded one cannot be created.
+     *
+     * @param className The class name of the recorded exception.
+     * @param message   The message of the recorded exception.
+     * @param fallback  Creates the exception if the recorded type is not available.
+     * @return The recreated exception.
+     */
+    static RuntimeException exception(String className, String message, Function<String, RuntimeException> fallback) {
+        try {
+            Class<?> type = Class.forName(className);
+            if (RuntimeException.class.isAssignableFrom(type)) {
+                Constructor<?> constructor = type.getConstructor(String.class);
+                return (RuntimeException) constructor.newInstance(message);
+            }
+        } catch (ReflectiveOperationException | LinkageError ignored) {
+            // The exception is recreated with the fallback type below.
+        }
+        return fallback.apply(className + ": " + message);
+    }
+
+    private static Object decodePrimitive(JsonPrimitive primitive, Class<?> type) {
+        if (primitive.isBoolean())
+            return primitive.getAsBoolean();
+        if (primitive.isString())
+            return primitive.getAsString();
+        if (type == int.class || type == Integer.class)
+            return primitive.getAsInt();
+        if (type == double.class || type == Double.class)
+            return primitive.getAsDouble();
+        if (type == String.class)
+            return primitive.getAsString();
+        BigDecimal number = new BigDecimal(primitive.getAsString());
+        if (number.scale() <= 0 || number.stripTrailingZeros().scale() <= 0)
+            return number.longValue();
+        return number.doubleValue();
+    }
+
+    private static JsonObject tagged(String tag, JsonElement value) {
+        JsonObject object = new JsonObject();
+        object.add(tag, value);
+        return object;
+    }
+
+    private static JsonArray numbers(int... values) {
+        JsonArray array = new JsonArray();
+        for (int value : values)
+            array.add(value);
+        return array;
+    }
+}
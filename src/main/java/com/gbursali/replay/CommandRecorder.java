@@ -0,0 +1,272 @@
+package com.gbursali.replay;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Records the WebDriver commands issued through a driver, together with their responses and timings.
+ * <p>
+ * The recorder wraps the driver, and every object it returns, with a proxy that writes each command
+ * as a single JSON line into the file. The file can be served back by {@link ReplayDriver}.
+ * <pre>{@code
+ * try (CommandRecorder recorder = CommandRecorder.to(Path.of("login.replay"), driver)) {
+ *     HTMLElement.driver = recorder.getDriver();
+ *     loginPage.login(user);
+ * }
+ * }</pre>
+ */
+public class CommandRecorder implements AutoCloseable {
+    static final String TARGET = "t";
+    static final String METHOD = "m";
+    static final String ARGUMENTS = "a";
+    static final String RESULT = "r";
+    static final String ERROR = "e";
+    static final String MESSAGE = "x";
+    static final String NANOS = "d";
+
+    private final Gson gson = new Gson();
+    private final BufferedWriter writer;
+    private final WebDriver driver;
+    private final Map<Object, Integer> ids = new HashMap<>();
+    private final List<Object> targets = new ArrayList<>();
+    private final List<Object> proxies = new ArrayList<>();
+    private final Map<Object, Object> unwrapped = new IdentityHashMap<>();
+    private final Set<Integer> declared = new HashSet<>();
+    private int commandCount;
+
+    protected CommandRecorder(BufferedWriter writer, WebDriver driver) {
+        this.writer = writer;
+        this.driver = (WebDriver) proxyOf(driver, publicInterfaces(driver.getClass()));
+    }
+
+    /**
+     * Starts recording the commands issued through the driver into the given file.
+     *
+     * @param file   The file to write the commands into. It is overwritten if it exists.
+     * @param driver The driver whose commands are recorded.
+     * @return A new recorder.
+     * @throws UncheckedIOException If the file cannot be created.
+     */
+    public static CommandRecorder to(Path file, WebDriver driver) {
+        try {
+            return new CommandRecorder(Files.newBufferedWriter(file), driver);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Recording cannot be created on: " + file.toAbsolutePath(), e);
+        }
+    }
+
+    /**
+     * Returns the recording driver. Commands issued through this driver are forwarded to the original one.
+     *
+     * @return The recording driver.
+     */
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    /**
+     * Retrieves the number of commands recorded so far.
+     *
+     * @return The number of recorded commands.
+     */
+    public synchronized int getCommandCount() {
+        return commandCount;
+    }
+
+    /**
+     * Flushes and closes the recording file. Commands issued afterward are still forwarded, but not recorded.
+     */
+    @Override
+    public synchronized void close() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Recording cannot be closed.", e);
+        }
+    }
+
+    private synchronized Object proxyOf(Object target, Class<?>[] interfaces) {
+        Integer id = ids.get(target);
+        if (id != null)
+            return proxies.get(id);
+        int handle = targets.size();
+        Object proxy = Proxy.newProxyInstance(getClass().getClassLoader(), interfaces,
+                (self, method, args) -> switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(self);
+                    case "equals" -> self == args[0];
+                    case "toString" -> "Recorded " + target;
+                    default -> invoke(handle, target, method, args);
+                });
+        ids.put(target, handle);
+        targets.add(target);
+        proxies.add(proxy);
+        unwrapped.put(proxy, target);
+        return proxy;
+    }
+
+    private Object invoke(int handle, Object target, Method method, Object[] args) throws Throwable {
+        Object[] arguments = args == null ? new Object[0] : args;
+        long start = System.nanoTime();
+        try {
+            Object result = method.invoke(target, unwrap(arguments));
+            long nanos = System.nanoTime() - start;
+            Object wrapped = wrap(result, method.getReturnType());
+            write(handle, method, arguments, wrapped, null, nanos);
+            return wrapped;
+        } catch (InvocationTargetException e) {
+            long nanos = System.nanoTime() - start;
+            write(handle, method, arguments, null, e.getCause(), nanos);
+            throw e.getCause();
+        }
+    }
+
+    private synchronized void write(int handle, Method method, Object[] args, Object result, Throwable error, long nanos) {
+        JsonObject line = new JsonObject();
+        line.addProperty(TARGET, handle);
+        line.addProperty(METHOD, method.getName());
+        if (args.length > 0)
+            line.add(ARGUMENTS, CommandCodec.encode(args, this::reference));
+        if (error != null) {
+            line.addProperty(ERROR, error.getClass().getName());
+            line.addProperty(MESSAGE, firstLine(error.getMessage()));
+        } else if (result != null) {
+            line.add(RESULT, CommandCodec.encode(result, this::declaration));
+        }
+        line.addProperty(NANOS, nanos);
+        try {
+            writer.write(gson.toJson(line));
+            writer.newLine();
+            commandCount++;
+        } catch (IOException e) {
+            // The recording is closed or broken, the command itself has succeeded.
+        }
+    }
+
+    /**
+     * Wraps the browser-side objects of a result with recording proxies.
+     */
+    private Object wrap(Object result, Class<?> declaredType) {
+        if (result == null)
+            return null;
+        if (result instanceof WebElement)
+            return proxyOf(result, publicInterfaces(result.getClass()));
+        if (declaredType.isInterface() && declaredType.getName().startsWith("org.openqa.selenium"))
+            return proxyOf(result, publicInterfaces(result.getClass()));
+        if (result instanceof Set<?> set) {
+            Set<Object> wrapped = new LinkedHashSet<>();
+            set.forEach(x -> wrapped.add(wrap(x, Object.class)));
+            return wrapped;
+        }
+        if (result instanceof List<?> list) {
+            List<Object> wrapped = new ArrayList<>();
+            list.forEach(x -> wrapped.add(wrap(x, Object.class)));
+            return wrapped;
+        }
+        if (result instanceof Map<?, ?> map) {
+            Map<Object, Object> wrapped = new LinkedHashMap<>();
+            map.forEach((key, value) -> wrapped.put(key, wrap(value, Object.class)));
+            return wrapped;
+        }
+        return result;
+    }
+
+    /**
+     * Replaces the recording proxies in the arguments with the objects they wrap.
+     */
+    private Object[] unwrap(Object[] args) {
+        Object[] result = new Object[args.length];
+        for (int i = 0; i < args.length; i++)
+            result[i] = unwrap(args[i]);
+        return result;
+    }
+
+    private Object unwrap(Object value) {
+        if (value == null)
+            return null;
+        Object target = unwrapped.get(value);
+        if (target != null)
+            return target;
+        if (value instanceof Object[] array && !(value instanceof CharSequence[]))
+            return unwrap(array);
+        if (value instanceof List<?> list)
+            return list.stream().map(this::unwrap).toList();
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> result = new LinkedHashMap<>();
+            map.forEach((key, item) -> result.put(key, unwrap(item)));
+            return result;
+        }
+        return value;
+    }
+
+    /**
+     * Encodes a recording proxy as a reference to its handle.
+     */
+    private JsonElement reference(Object value) {
+        Object target = unwrapped.get(value);
+        if (target == null)
+            return null;
+        JsonObject reference = new JsonObject();
+        reference.addProperty(CommandCodec.REF, ids.get(target));
+        return reference;
+    }
+
+    /**
+     * Encodes a recording proxy as a reference to its handle, declaring its interfaces on its first appearance.
+     */
+    private JsonElement declaration(Object value) {
+        JsonElement reference = reference(value);
+        if (reference == null)
+            return null;
+        int handle = reference.getAsJsonObject().get(CommandCodec.REF).getAsInt();
+        if (declared.add(handle)) {
+            JsonArray types = new JsonArray();
+            for (Class<?> type : value.getClass().getInterfaces())
+                types.add(new JsonPrimitive(type.getName()));
+            reference.getAsJsonObject().add(CommandCodec.TYPE, types);
+        }
+        return reference;
+    }
+
+    private static String firstLine(String message) {
+        if (message == null)
+            return "";
+        int end = message.indexOf('\n');
+        return end < 0 ? message : message.substring(0, end);
+    }
+
+    /**
+     * Collects the public interfaces implemented by the class and its superclasses.
+     */
+    static Class<?>[] publicInterfaces(Class<?> type) {
+        Set<Class<?>> interfaces = new LinkedHashSet<>();
+        for (Class<?> current = type; current != null; current = current.getSuperclass())
+            for (Class<?> implemented : current.getInterfaces())
+                if (Modifier.isPublic(implemented.getModifiers()))
+                    interfaces.add(implemented);
+        return interfaces.toArray(Class<?>[]::new);
+    }
+}
@@ -0,0 +1,260 @@
+package com.gbursali.replay;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Serves a recording of {@link CommandRecorder} back without a browser.
+ * <p>
+ * Each command is answered with the response recorded for the same command, on the same target, with the same
+ * arguments. Repeated commands, like the polls of a waiter, receive their recorded responses in order, and the
+ * last one once they are exhausted. Each response is delayed by its recorded duration, scaled by the speed.
+ * <p>
+ * The number of commands served and the simulated time they took can be compared against the recording,
+ * to measure a change of the wrapper offline.
+ * <pre>{@code
+ * ReplayDriver replay = ReplayDriver.from(Path.of("login.replay"));
+ * HTMLElement.driver = replay.getDriver();
+ * loginPage.login(user);
+ * System.out.println(replay.getCommandCount() + " of " + replay.getRecordedCommandCount());
+ * }</pre>
+ */
+public class ReplayDriver {
+    private record Response(JsonElement result, String error, String message, long nanos) {
+    }
+
+    private final Map<String, Deque<Response>> responses;
+    private final List<Object> handles = new ArrayList<>();
+    private final int recordedCount;
+    private final long recordedNanos;
+    private final Map<String, AtomicInteger> counts = new ConcurrentHashMap<>();
+    private final AtomicLong simulatedNanos = new AtomicLong();
+    private volatile double speed = 1;
+
+    protected ReplayDriver(List<JsonObject> lines) {
+        Map<String, Deque<Response>> byCommand = new HashMap<>();
+        handle(0, List.of(WebDriver.class, JavascriptExecutor.class, TakesScreenshot.class));
+        long nanos = 0;
+        for (JsonObject line : lines) {
+            Response response = new Response(
+                    line.get(CommandRecorder.RESULT),
+                    line.has(CommandRecorder.ERROR) ? line.get(CommandRecorder.ERROR).getAsString() : null,
+                    line.has(CommandRecorder.MESSAGE) ? line.get(CommandRecorder.MESSAGE).getAsString() : null,
+                    line.get(CommandRecorder.NANOS).getAsLong());
+            declareHandles(response.result());
+            byCommand.computeIfAbsent(key(line), x -> new ArrayDeque<>()).add(response);
+            nanos += response.nanos();
+        }
+        this.responses = byCommand;
+        this.recordedCount = lines.size();
+        this.recordedNanos = nanos;
+    }
+
+    /**
+     * Loads a recording created by {@link CommandRecorder}.
+     *
+     * @param file The recording file.
+     * @return A new replay of the recording.
+     * @throws UncheckedIOException If the file cannot be read.
+     */
+    public static ReplayDriver from(Path file) {
+        List<JsonObject> lines = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine())
+                if (!line.isBlank())
+                    lines.add(JsonParser.parseString(line).getAsJsonObject());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Recording cannot be read from: " + file.toAbsolutePath(), e);
+        }
+        return new ReplayDriver(lines);
+    }
+
+    /**
+     * Scales the recorded durations. {@code 1} replays with the recorded timings, {@code 0} replays without any
+     * delay. The simulated time is not affected.
+     *
+     * @param speed The speed factor, {@code 2} replays twice as fast.
+     * @return Instance itself for chain support.
+     */
+    public ReplayDriver withSpeed(double speed) {
+        if (speed < 0)
+            throw new IllegalArgumentException("Speed cannot be negative: " + speed);
+        this.speed = speed;
+        return this;
+    }
+
+    /**
+     * Returns the replaying driver.
+     *
+     * @return The driver serving the recorded responses.
+     */
+    public WebDriver getDriver() {
+        return (WebDriver) handles.get(0);
+    }
+
+    /**
+     * Retrieves the number of commands served so far.
+     *
+     * @return The number of served commands.
+     */
+    public int getCommandCount() {
+        return counts.values().stream().mapToInt(AtomicInteger::get).sum();
+    }
+
+    /**
+     * Retrieves the number of commands served so far, by their names.
+     *
+     * @return The command counts, sorted by the command names.
+     */
+    public Map<String, Integer> getCommandCounts() {
+        Map<String, Integer> copy = new TreeMap<>();
+        counts.forEach((name, count) -> copy.put(name, count.get()));
+        return copy;
+    }
+
+    /**
+     * Retrieves the sum of the recorded durations of the commands served so far.
+     *
+     * @return The simulated wall time spent on the commands.
+     */
+    public Duration getSimulatedTime() {
+        return Duration.ofNanos(simulatedNanos.get());
+    }
+
+    /**
+     * Retrieves the number of commands in the recording.
+     *
+     * @return The number of recorded commands.
+     */
+    public int getRecordedCommandCount() {
+        return recordedCount;
+    }
+
+    /**
+     * Retrieves the sum of the durations of every command in the recording.
+     *
+     * @return The recorded wall time spent on the commands.
+     */
+    public Duration getRecordedTime() {
+        return Duration.ofNanos(recordedNanos);
+    }
+
+    private Object serve(int handle, Method method, Object[] args) {
+        Object[] arguments = args == null ? new Object[0] : args;
+        JsonObject command = new JsonObject();
+        command.addProperty(CommandRecorder.TARGET, handle);
+        command.addProperty(CommandRecorder.METHOD, method.getName());
+        if (arguments.length > 0)
+            command.add(CommandRecorder.ARGUMENTS, CommandCodec.encode(arguments, this::reference));
+        String key = key(command);
+
+        Deque<Response> queue = responses.get(key);
+        if (queue == null)
+            throw new IllegalStateException("Command was not recorded: " + key);
+        Response response;
+        synchronized (queue) {
+            response = queue.size() > 1 ? queue.poll() : queue.peek();
+        }
+        counts.computeIfAbsent(method.getName(), x -> new AtomicInteger()).incrementAndGet();
+        simulatedNanos.addAndGet(response.nanos());
+        if (speed > 0)
+            LockSupport.parkNanos((long) (response.nanos() / speed));
+
+        if (response.error() != null)
+            throw CommandCodec.exception(response.error(), response.message(), WebDriverException::new);
+        Object result = CommandCodec.decode(response.result(), method.getReturnType(), this::resolve);
+        if (method.getName().equals("getScreenshotAs") && arguments[0] instanceof OutputType<?> type)
+            return result instanceof byte[] bytes ? type.convertFromPngBytes(bytes) : type.convertFromBase64Png((String) result);
+        return result;
+    }
+
+    private static String key(JsonObject command) {
+        JsonElement args = command.get(CommandRecorder.ARGUMENTS);
+        return command.get(CommandRecorder.TARGET).getAsInt() + "." + command.get(CommandRecorder.METHOD).getAsString()
+                + (args == null ? "[]" : args.toString());
+    }
+
+    /**
+     * Creates the handles declared in a recorded result, in the order of their first appearance.
+     */
+    private void declareHandles(JsonElement json) {
+        if (json == null || json.isJsonPrimitive() || json.isJsonNull())
+            return;
+        if (json.isJsonArray()) {
+            json.getAsJsonArray().forEach(this::declareHandles);
+            return;
+        }
+        JsonObject object = json.getAsJsonObject();
+        if (object.has(CommandCodec.REF) && object.has(CommandCodec.TYPE)) {
+            List<Class<?>> interfaces = new ArrayList<>();
+            for (JsonElement type : object.get(CommandCodec.TYPE).getAsJsonArray()) {
+                try {
+                    interfaces.add(Class.forName(type.getAsString()));
+                } catch (ClassNotFoundException e) {
+                    // Interfaces of the recording environment that are not available are left out.
+                }
+            }
+            handle(object.get(CommandCodec.REF).getAsInt(), interfaces);
+            return;
+        }
+        object.entrySet().forEach(x -> declareHandles(x.getValue()));
+    }
+
+    private void handle(int id, List<Class<?>> interfaces) {
+        while (handles.size() <= id)
+            handles.add(null);
+        if (handles.get(id) != null)
+            return;
+        String name = interfaces.isEmpty() ? "handle" : interfaces.get(0).getSimpleName();
+        handles.set(id, Proxy.newProxyInstance(getClass().getClassLoader(), interfaces.toArray(Class<?>[]::new),
+                (self, method, args) -> switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(self);
+                    case "equals" -> self == args[0];
+                    case "toString" -> "Replayed " + name + " #" + id;
+                    default -> serve(id, method, args);
+                }));
+    }
+
+    private Object resolve(JsonObject reference) {
+        int id = reference.get(CommandCodec.REF).getAsInt();
+        Object handle = id < handles.size() ? handles.get(id) : null;
+        if (handle == null)
+            throw new IllegalStateException("Recording does not declare the handle: " + id);
+        return handle;
+    }
+
+    private JsonElement reference(Object value) {
+        int id = handles.indexOf(value);
+        if (id < 0)
+            return null;
+        JsonObject reference = new JsonObject();
+        reference.addProperty(CommandCodec.REF, id);
+        return reference;
+    }
+}
@@ -1,5 +1,6 @@
 package com.gbursali.strings;
 
+import com.gbursali.events.PlaceholderRenderEvent;
 import org.apache.hc.core5.function.Supplier;
 
 import java.io.FileInputStream;
@@ -7,9 +8,12 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Utility class for replacing placeholders in strings.
@@ -151,6 +155,8 @@ public class Placeholders {
      * @return The modified input string with placeholders replaced.
      */
     public String apply(String input) {
+        PlaceholderRenderEvent event = new PlaceholderRenderEvent();
+        event.begin();
         final StringBuilder modifiedInput = new StringBuilder(input);
         getPlaceHoldersPrefixed().forEach((keyword, action) -> {
             Matcher matches = Pattern.compile(keyword).matcher(input);
@@ -164,6 +170,13 @@ public class Placeholders {
                 modifiedInput.replace(matches.start(),matches.end(),action.apply(matches));
             }
         });
+        if (event.shouldCommit()) {
+            event.keys = Stream.of(instantPlaceholderList.keySet(), placeholderList.keySet(), groupedPlaceholderList.keySet())
+                    .flatMap(Set::stream)
+                    .collect(Collectors.joining(","));
+            event.inputLength = input.length();
+            event.commit();
+        }
         return modifiedInput.toString();
     }
 
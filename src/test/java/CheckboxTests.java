@@ -0,0 +1,167 @@
+import com.gbursali.elements.Checkbox;
+import com.gbursali.elements.HTMLElement;
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidElementStateException;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class CheckboxTests {
+    private final By termsLocator = By.cssSelector("input#terms");
+
+    /**
+     * Browser whose checkbox scripts act on a single checkbox state, counting the clicks they make.
+     */
+    private static class CheckboxBrowser extends FakeBrowser {
+        boolean checked;
+        int clicks;
+
+        CheckboxBrowser() {
+            scriptHandler = (script, args) -> {
+                if (script.contains("gbSetChecked(arguments[0], arguments[1])") && checked != (Boolean) args[1]) {
+                    checked = (Boolean) args[1];
+                    clicks++;
+                }
+                return checked;
+            };
+            HTMLElement.driver = driver;
+        }
+    }
+
+    @Test
+    @DisplayName("check should not click a checkbox that is already checked")
+    public void checkIsIdempotent() {
+        CheckboxBrowser browser = new CheckboxBrowser();
+        browser.add(termsLocator);
+        Checkbox terms = new Checkbox(termsLocator);
+
+        terms.check();
+        terms.check();
+
+        Assertions.assertTrue(terms.isChecked());
+        Assertions.assertEquals(1, browser.clicks);
+        Assertions.assertEquals(0, browser.count("click"));
+    }
+
+    @Test
+    @DisplayName("uncheck should only click a checked checkbox, in a single script")
+    public void uncheckReadsAndSetsInOneCall() {
+        CheckboxBrowser browser = new CheckboxBrowser();
+        browser.add(termsLocator);
+        browser.checked = true;
+        Checkbox terms = new Checkbox(termsLocator);
+        terms.asElement();
+        browser.resetCounts();
+
+        terms.uncheck();
+
+        Assertions.assertFalse(browser.checked);
+        Assertions.assertEquals(1, browser.clicks);
+        Assertions.assertEquals(1, browser.count("executeScript"));
+    }
+
+    @Test
+    @DisplayName("setChecked should fail when the checkbox does not reach the state")
+    public void setCheckedFailsOnUnchangedState() {
+        FakeBrowser browser = new FakeBrowser();
+        browser.add(termsLocator);
+        browser.scriptHandler = (script, args) -> false;
+        HTMLElement.driver = browser.driver;
+
+        Assertions.assertThrows(InvalidElementStateException.class, () -> new Checkbox(termsLocator).setChecked(true));
+    }
+
+    @Test
+    @DisplayName("toggle should click the checkbox regardless of its state")
+    public void toggleClicks() {
+        CheckboxBrowser browser = new CheckboxBrowser();
+        browser.add(termsLocator);
+
+        new Checkbox(termsLocator).toggle();
+
+        Assertions.assertEquals(1, browser.count("click"));
+    }
+
+    @Test
+    @DisplayName("setAll should set every checkbox with a single script and report the ones that failed")
+    public void setAllUsesSingleScript() {
+        FakeBrowser browser = new FakeBrowser();
+        HTMLElement.driver = browser.driver;
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("changed", 2L);
+        summary.put("failed", List.of());
+        browser.scriptHandler = (script, args) -> summary;
+        List<By> locators = List.of(By.cssSelector("input.a"), By.cssSelector("input.b"), By.cssSelector("input.c"));
+
+        Assertions.assertEquals(2, Checkbox.setAll(locators, true));
+        Assertions.assertEquals(1, browser.total());
+
+        summary.put("failed", List.of(1L));
+        var exception = Assertions.assertThrows(InvalidElementStateException.class, () -> Checkbox.setAll(locators, true));
+        Assertions.assertTrue(exception.getMessage().contains("input.b"), exception.getMessage());
+        Assertions.assertFalse(exception.getMessage().contains("input.a"), exception.getMessage());
+    }
+
+    /**
+     * Browser that runs the {@code setAll} script against its elements, reading and clicking the {@code checked}
+     * attribute of every element found for a target.
+     */
+    private static class SetAllBrowser extends FakeBrowser {
+        private final Map<WebElement, FakeElement> elements = new HashMap<>();
+
+        SetAllBrowser() {
+            scriptHandler = (script, args) -> {
+                boolean checked = (Boolean) args[1];
+                boolean reportsMissing = script.contains("if (elements.length === 0) failed.push(index);");
+                List<Long> failed = new ArrayList<>();
+                long changed = 0;
+                List<?> targets = (List<?>) args[0];
+                for (int i = 0; i < targets.size(); i++) {
+                    List<?> target = (List<?>) targets.get(i);
+                    List<WebElement> found = driver.findElements(By.cssSelector((String) target.get(1)));
+                    if (found.isEmpty() && reportsMissing)
+                        failed.add((long) i);
+                    for (WebElement element : found) {
+                        FakeElement checkbox = elements.get(element);
+                        if (Boolean.parseBoolean(checkbox.attributes.get("checked")) != checked) {
+                            checkbox.attributes.put("checked", String.valueOf(checked));
+                            changed++;
+                        }
+                    }
+                }
+                Map<String, Object> summary = new HashMap<>();
+                summary.put("changed", changed);
+                summary.put("failed", failed);
+                return summary;
+            };
+            HTMLElement.driver = driver;
+        }
+
+        FakeElement checkbox(By by) {
+            FakeElement element = add(by);
+            elements.put(element.asWebElement(), element);
+            return element;
+        }
+    }
+
+    @Test
+    @DisplayName("setAll should report a locator that matches no checkbox")
+    public void setAllReportsMissingCheckboxes() {
+        SetAllBrowser browser = new SetAllBrowser();
+        FakeElement terms = browser.checkbox(termsLocator);
+        By newsletterLocator = By.cssSelector("input#newsletter");
+
+        var exception = Assertions.assertThrows(InvalidElementStateException.class,
+                () -> Checkbox.setAll(List.of(termsLocator, newsletterLocator), true));
+
+        Assertions.assertTrue(exception.getMessage().contains("input#newsletter"), exception.getMessage());
+        Assertions.assertFalse(exception.getMessage().contains("input#terms"), exception.getMessage());
+        Assertions.assertEquals("true", terms.attributes.get("checked"));
+    }
+}
@@ -0,0 +1,155 @@
+import com.gbursali.elements.Dropdown;
+import com.gbursali.elements.HTMLElement;
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public class DropdownTests {
+    private final By cityLocator = By.cssSelector("div#city");
+
+    /**
+     * Browser whose option scripts return the options in {@link #options}, answering the close script with no match.
+     */
+    private static class OptionsBrowser extends FakeBrowser {
+        volatile List<Map<String, Object>> options = List.of();
+
+        OptionsBrowser() {
+            scriptHandler = (script, args) -> script.contains("elements.map") ? options : null;
+            HTMLElement.driver = driver;
+        }
+
+        static Map<String, Object> option(String text) {
+            return Map.of("text", text, "attributes", Map.of());
+        }
+    }
+
+    @Test
+    @DisplayName("readOptions should read the options once until the dropdown is opened again")
+    public void readOptionsIsCached() {
+        OptionsBrowser browser = new OptionsBrowser();
+        browser.add(cityLocator);
+        browser.options = List.of(OptionsBrowser.option("Ankara"), OptionsBrowser.option("Izmir"));
+        Dropdown city = new Dropdown(cityLocator);
+
+        List<String> first = city.readOptions().stream().map(Dropdown.Option::text).toList();
+        city.readOptions();
+
+        Assertions.assertEquals(List.of("Ankara", "Izmir"), first);
+        Assertions.assertEquals(1, browser.count("executeScript"));
+
+        city.openDropdown();
+        city.readOptions();
+        Assertions.assertEquals(2, browser.count("executeScript"));
+    }
+
+    @Test
+    @DisplayName("readOptions should not cache the empty option list of a closed menu")
+    public void readOptionsSkipsEmptyResults() {
+        OptionsBrowser browser = new OptionsBrowser();
+        browser.add(cityLocator);
+        Dropdown city = new Dropdown(cityLocator);
+
+        Assertions.assertTrue(city.readOptions().isEmpty());
+        browser.options = List.of(OptionsBrowser.option("Ankara"));
+
+        Assertions.assertEquals(1, city.readOptions().size());
+        Assertions.assertEquals(2, browser.count("executeScript"));
+    }
+
+    @Test
+    @DisplayName("close should make every dropdown read its options again")
+    public void closeInvalidatesOptions() {
+        OptionsBrowser browser = new OptionsBrowser();
+        browser.add(cityLocator);
+        browser.options = List.of(OptionsBrowser.option("Ankara"));
+        Dropdown city = new Dropdown(cityLocator);
+        city.readOptions();
+
+        Dropdown.close();
+        browser.options = List.of(OptionsBrowser.option("Izmir"));
+        browser.resetCounts();
+
+        Assertions.assertEquals("Izmir", city.readOptions().get(0).text());
+        Assertions.assertEquals(1, browser.count("executeScript"));
+    }
+
+    @Test
+    @DisplayName("readOptions should read again when an attribute is missing from the cache")
+    public void readOptionsReadsMissingAttributes() {
+        OptionsBrowser browser = new OptionsBrowser();
+        browser.add(cityLocator);
+        browser.options = List.of(Map.of("text", "Ankara", "attributes", Map.of("value", "06")));
+        Dropdown city = new Dropdown(cityLocator);
+
+        city.readOptions();
+        Assertions.assertEquals("06", city.readOptions("value").get(0).attributes().get("value"));
+        city.readOptions("value");
+
+        Assertions.assertEquals(2, browser.count("executeScript"));
+    }
+
+    /**
+     * Browser rendering a virtualized menu whose option is rendered after scrolling the given number of pages.
+     */
+    private static class VirtualMenuBrowser extends FakeBrowser {
+        int page;
+
+        VirtualMenuBrowser(int optionPage) {
+            add(By.cssSelector("div[data-ref=\"menu-dropdown\"]"));
+            WebElement option = add(By.xpath("//option")).asWebElement();
+            scriptHandler = (script, args) -> {
+                if (!script.contains("gbFind('xpath', arguments[3])"))
+                    return null;
+                if ("top".equals(args[2]))
+                    page = 0;
+                else if ("scroll".equals(args[2]) && page < optionPage)
+                    page++;
+                Map<String, Object> result = new HashMap<>(Map.of("atEnd", false, "scrollable", true, "typeable", false));
+                result.put("option", page == optionPage ? option : null);
+                return result;
+            };
+            HTMLElement.driver = driver;
+        }
+    }
+
+    /**
+     * Counts the commands other than the page scripts sent by the given search.
+     *
+     * @param optionPage The page on which the option is rendered.
+     * @param search     The search to run.
+     * @return The number of commands that are not {@code executeScript} calls.
+     */
+    private int overheadOf(int optionPage, Consumer<Dropdown> search) {
+        VirtualMenuBrowser browser = new VirtualMenuBrowser(optionPage);
+        browser.add(cityLocator);
+        search.accept(new Dropdown(cityLocator));
+        Assertions.assertEquals(optionPage, browser.page);
+        return browser.total() - browser.count("executeScript");
+    }
+
+    @Test
+    @DisplayName("searchOption should resolve the dropdown once, regardless of the pages scanned")
+    public void searchOptionResolvesOnce() {
+        VirtualMenuBrowser browser = new VirtualMenuBrowser(6);
+        browser.add(cityLocator);
+
+        Assertions.assertTrue(new Dropdown(cityLocator).searchOption("Izmir", true).isPresent());
+
+        Assertions.assertEquals(8, browser.count("executeScript"));
+        Assertions.assertEquals(overheadOf(1, x -> x.searchOption("Izmir", true)),
+                overheadOf(6, x -> x.searchOption("Izmir", true)));
+    }
+
+    @Test
+    @DisplayName("selectDeep should send the same commands besides the page scripts on any page")
+    public void selectDeepOverheadIsConstant() {
+        Assertions.assertEquals(overheadOf(1, x -> x.selectDeep("Izmir")), overheadOf(8, x -> x.selectDeep("Izmir")));
+    }
+}
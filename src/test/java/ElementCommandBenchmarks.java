@@ -0,0 +1,248 @@
+import com.gbursali.elements.ClickStrategy;
+import com.gbursali.elements.Dropdown;
+import com.gbursali.elements.HTMLElement;
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import com.google.gson.GsonBuilder;
+import org.openqa.selenium.By;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Counts the WebDriver commands and measures the wall time of the wrapper operations against a {@link FakeBrowser}
+ * that delays every command by a simulated latency.
+ * <p>
+ * The command ceilings below are regression ceilings: they hold the commands the operations send today, so an
+ * operation that starts sending more fails the build. They are not targets. The commands and the wall time per
+ * operation are written to {@link #REPORT} after every measurement.
+ */
+public class ElementCommandBenchmarks {
+    private static final int ITERATIONS = 20;
+    private static final Duration LATENCY = Duration.ofMillis(1);
+    private static final Path REPORT = Path.of("target", "element-benchmarks.json");
+
+    private static final int GET_TEXT_CEILING = 2;
+    private static final int CLICK_CEILING = 8;
+    private static final int ATOMIC_CLICK_CEILING = 1;
+    private static final int SEND_KEYS_CEILING = 8;
+    private static final int CLICKABILITY_CEILING = 6;
+    private static final int DROPDOWN_SELECT_CEILING = 12;
+
+    /**
+     * Result of a measured operation.
+     *
+     * @param commandsPerOp Average number of commands per call.
+     * @param meanMillis    Average wall time per call.
+     * @param maxMillis     Longest wall time of a call.
+     * @param commands      The commands sent by every call, by their names.
+     */
+    private record Result(double commandsPerOp, double meanMillis, double maxMillis, Map<String, Integer> commands) {
+    }
+
+    private static final Map<String, Result> results = new ConcurrentSkipListMap<>();
+
+    private final By buttonLocator = By.cssSelector("button#save");
+
+    private FakeBrowser newBrowser() {
+        FakeBrowser browser = new FakeBrowser();
+        HTMLElement.driver = browser.driver;
+        return browser;
+    }
+
+    /**
+     * Runs the operation repeatedly, timing every call, reports the result and checks the average number of
+     * commands per call against the regression ceiling.
+     *
+     * @return The commands sent by every call, by their names.
+     */
+    private Map<String, Integer> measure(String name, FakeBrowser browser, int ceiling, Runnable operation) {
+        browser.resetCounts();
+        long total = 0;
+        long max = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            operation.run();
+            long elapsed = System.nanoTime() - start;
+            total += elapsed;
+            max = Math.max(max, elapsed);
+        }
+        Result result = new Result((double) browser.total() / ITERATIONS, total / 1e6 / ITERATIONS, max / 1e6,
+                browser.commands());
+        report(name, result);
+        Assertions.assertTrue(result.commandsPerOp() <= ceiling, name + " exceeds its regression ceiling of "
+                + ceiling + " commands: " + result);
+        return result.commands();
+    }
+
+    /**
+     * Writes every result measured so far into the {@link #REPORT}.
+     */
+    private static void report(String name, Result result) {
+        results.put(name, result);
+        try {
+            Files.createDirectories(REPORT.getParent());
+            Files.writeString(REPORT, new GsonBuilder().setPrettyPrinting().create().toJson(results));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Benchmark report cannot be written to: " + REPORT.toAbsolutePath(), e);
+        }
+    }
+
+    @Test
+    @DisplayName("getText should stay within its regression ceiling of 2 commands")
+    public void getTextCommandBudget() {
+        FakeBrowser browser = newBrowser();
+        browser.add(buttonLocator).withText("Save");
+        browser.latency = LATENCY;
+        var button = new HTMLElement(buttonLocator);
+
+        Map<String, Integer> commands = measure("getText", browser, GET_TEXT_CEILING, button::getText);
+        Assertions.assertEquals(ITERATIONS, (int) commands.get("getText"));
+    }
+
+    @Test
+    @DisplayName("click should stay within its regression ceiling of 8 commands")
+    public void clickCommandBudget() {
+        FakeBrowser browser = newBrowser();
+        browser.add(buttonLocator);
+        browser.latency = LATENCY;
+        var button = new HTMLElement(buttonLocator);
+
+        Map<String, Integer> commands = measure("click", browser, CLICK_CEILING, button::click);
+        Assertions.assertEquals(ITERATIONS, (int) commands.get("click"));
+    }
+
+    @Test
+    @DisplayName("Atomic click should send a single command")
+    public void atomicClickCommandBudget() {
+        FakeBrowser browser = newBrowser();
+        browser.add(buttonLocator);
+        browser.latency = LATENCY;
+        browser.scriptHandler = (script, args) -> Arrays.asList("clicked", null);
+        var button = new HTMLElement(buttonLocator);
+
+        HTMLElement.clickStrategy = ClickStrategy.ATOMIC;
+        try {
+            Map<String, Integer> commands = measure("Atomic click", browser, ATOMIC_CLICK_CEILING, button::click);
+            Assertions.assertEquals(ITERATIONS, (int) commands.get("executeScript"));
+            Assertions.assertNull(commands.get("click"));
+        } finally {
+            HTMLElement.clickStrategy = ClickStrategy.NATIVE;
+        }
+    }
+
+    @Test
+    @DisplayName("Atomic click should fall back to a native click when the element is covered")
+    public void atomicClickFallsBackWhenObscured() {
+        FakeBrowser browser = newBrowser();
+        browser.add(buttonLocator);
+        browser.scriptHandler = (script, args) -> Arrays.asList("obscured", null);
+        var button = new HTMLElement(buttonLocator);
+
+        HTMLElement.clickStrategy = ClickStrategy.ATOMIC;
+        try {
+            button.click();
+            Assertions.assertEquals(1, browser.count("executeScript"));
+            Assertions.assertEquals(1, browser.count("click"));
+        } finally {
+            HTMLElement.clickStrategy = ClickStrategy.NATIVE;
+        }
+    }
+
+    @Test
+    @DisplayName("Atomic click should find the element in the script and fall back when it is missing")
+    public void atomicClickFindsElementInScript() {
+        FakeBrowser browser = newBrowser();
+        browser.add(buttonLocator);
+        List<String> outcomes = new ArrayList<>();
+        browser.scriptHandler = (script, args) -> {
+            outcomes.add(browser.total() == 1 ? "first" : "later");
+            return Arrays.asList("missing", null);
+        };
+        var button = new HTMLElement(buttonLocator);
+
+        HTMLElement.clickStrategy = ClickStrategy.ATOMIC;
+        try {
+            button.click();
+            Assertions.assertEquals(List.of("first"), outcomes);
+            Assertions.assertEquals(1, browser.count("click"));
+        } finally {
+            HTMLElement.clickStrategy = ClickStrategy.NATIVE;
+        }
+    }
+
+    @Test
+    @DisplayName("sendKeys should stay within its regression ceiling of 8 commands")
+    public void sendKeysCommandBudget() {
+        FakeBrowser browser = newBrowser();
+        browser.add(buttonLocator);
+        browser.latency = LATENCY;
+        var input = new HTMLElement(buttonLocator);
+
+        Map<String, Integer> commands = measure("sendKeys", browser, SEND_KEYS_CEILING, () -> input.sendKeys("text"));
+        Assertions.assertEquals(ITERATIONS, (int) commands.get("sendKeys"));
+    }
+
+    @Test
+    @DisplayName("clickability should stay within its regression ceiling of 6 commands for a clickable element")
+    public void clickabilityCommandBudget() {
+        FakeBrowser browser = newBrowser();
+        browser.add(buttonLocator);
+        browser.latency = LATENCY;
+        var button = new HTMLElement(buttonLocator);
+
+        Map<String, Integer> commands = measure("clickability", browser, CLICKABILITY_CEILING, button.waitFor::clickability);
+        Assertions.assertNull(commands.get("click"));
+    }
+
+    @Test
+    @DisplayName("clickability should wait until the element is displayed")
+    public void clickabilityWaitsForVisibility() {
+        FakeBrowser browser = newBrowser();
+        browser.add(buttonLocator).displayedAfter(Duration.ofMillis(300));
+        var button = new HTMLElement(buttonLocator);
+
+        long start = System.nanoTime();
+        button.waitFor.clickability();
+        Assertions.assertTrue(System.nanoTime() - start >= Duration.ofMillis(300).toNanos());
+    }
+
+    @Test
+    @DisplayName("A stale cached element should be located again")
+    public void staleElementIsLocatedAgain() {
+        FakeBrowser browser = newBrowser();
+        FakeElement first = browser.add(buttonLocator).withText("First");
+        var button = new HTMLElement(buttonLocator);
+        Assertions.assertEquals("First", button.getText());
+
+        first.stale = true;
+        browser.remove(buttonLocator);
+        browser.add(buttonLocator).withText("Second");
+        Assertions.assertEquals("Second", button.getText());
+    }
+
+    @Test
+    @DisplayName("Dropdown.select should stay within its regression ceiling of 12 commands")
+    public void dropdownSelectCommandBudget() {
+        FakeBrowser browser = newBrowser();
+        By dropdownLocator = By.cssSelector("div#role");
+        By menuLocator = By.cssSelector("div[data-ref=\"menu-dropdown\"]");
+        By optionLocator = By.xpath(Dropdown.dropdownOptionsLocator + "//div[.='Admin']");
+        browser.add(dropdownLocator).onClick = () -> browser.add(menuLocator);
+        browser.add(optionLocator).onClick = () -> browser.remove(menuLocator);
+        browser.latency = LATENCY;
+        var dropdown = new Dropdown(dropdownLocator);
+
+        Map<String, Integer> commands = measure("Dropdown.select", browser, DROPDOWN_SELECT_CEILING, () -> dropdown.select("Admin"));
+        Assertions.assertEquals(ITERATIONS, (int) commands.get("executeScript"));
+    }
+}
@@ -0,0 +1,47 @@
+import com.gbursali.elements.ElementContext;
+import com.gbursali.elements.HTMLElement;
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.openqa.selenium.By;
+
+public class ElementContextTests {
+    private final By frameLocator = By.id("editor");
+    private final By bodyLocator = By.cssSelector("div.body");
+    private final By titleLocator = By.cssSelector("h1.title");
+
+    private FakeBrowser newBrowser() {
+        FakeBrowser browser = new FakeBrowser();
+        browser.add(frameLocator);
+        browser.add(bodyLocator).withText("Body");
+        browser.add(titleLocator).withText("Title");
+        HTMLElement.driver = browser.driver;
+        return browser;
+    }
+
+    @Test
+    @DisplayName("Elements of the current context should be searched in the frame a framed element left the driver in")
+    public void currentContextFollowsTheDriver() {
+        FakeBrowser browser = newBrowser();
+
+        new HTMLElement(bodyLocator).within(ElementContext.top().frame(frameLocator)).getText();
+        new HTMLElement(titleLocator).getText();
+
+        Assertions.assertEquals(1, browser.count("switchTo.frame"));
+        Assertions.assertEquals(1, browser.count("switchTo.defaultContent"));
+    }
+
+    @Test
+    @DisplayName("Elements of the top-level context should switch back out of the frame of a framed element")
+    public void topContextLeavesTheFrame() {
+        FakeBrowser browser = newBrowser();
+        ElementContext editor = ElementContext.top().frame(frameLocator);
+
+        new HTMLElement(bodyLocator).within(editor).getText();
+        Assertions.assertEquals("Title", new HTMLElement(titleLocator).within(ElementContext.top()).getText());
+        new HTMLElement(bodyLocator).within(editor).getText();
+
+        Assertions.assertEquals(2, browser.count("switchTo.frame"));
+        Assertions.assertEquals(3, browser.count("switchTo.defaultContent"));
+    }
+}
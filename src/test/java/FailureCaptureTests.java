@@ -0,0 +1,76 @@
+import com.gbursali.capture.FailureCapture;
+import com.gbursali.elements.HTMLElement;
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.openqa.selenium.By;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+public class FailureCaptureTests {
+    private final By titleLocator = By.cssSelector("h1.title");
+
+    private FakeBrowser newBrowser() {
+        FakeBrowser browser = new FakeBrowser();
+        browser.add(titleLocator).withText("Welcome");
+        browser.screenshot = new byte[]{(byte) 0x89, 'P', 'N', 'G'};
+        browser.scriptHandler = (script, args) -> "<html><body><h1 class=\"title\">Welcome</h1></body></html>";
+        HTMLElement.driver = browser.driver;
+        return browser;
+    }
+
+    @Test
+    @DisplayName("A failed verification should write the decoded screenshot and the DOM")
+    public void failedVerificationIsCaptured() throws IOException {
+        Path directory = Files.createTempDirectory("captures");
+        newBrowser();
+        FailureCapture.enable(directory);
+        try {
+            var title = new HTMLElement(titleLocator);
+            Assertions.assertThrows(AssertionError.class, () -> title.verify.text("Goodbye"));
+            Assertions.assertTrue(FailureCapture.flush(Duration.ofSeconds(5)));
+        } finally {
+            FailureCapture.disable();
+        }
+
+        List<Path> files;
+        try (var list = Files.list(directory)) {
+            files = list.sorted().toList();
+        }
+        Assertions.assertEquals(2, files.size(), "Captured files: " + files);
+        Path png = files.stream().filter(x -> x.toString().endsWith(".png")).findFirst().orElseThrow();
+        Assertions.assertArrayEquals(new byte[]{(byte) 0x89, 'P', 'N', 'G'}, Files.readAllBytes(png));
+        Path html = files.stream().filter(x -> x.toString().endsWith(".html.gz")).findFirst().orElseThrow();
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(html))) {
+            String dump = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            Assertions.assertTrue(dump.contains("Goodbye"), "The reason is not in the dump");
+            Assertions.assertTrue(dump.contains("<h1 class=\"title\">Welcome</h1>"), "The DOM is not in the dump");
+        }
+    }
+
+    @Test
+    @DisplayName("A passing verification should not touch the browser for a capture")
+    public void passingVerificationIsNotCaptured() throws IOException {
+        Path directory = Files.createTempDirectory("captures");
+        FakeBrowser browser = newBrowser();
+        FailureCapture.enable(directory);
+        try {
+            new HTMLElement(titleLocator).verify.text("Welcome");
+            Assertions.assertTrue(FailureCapture.flush(Duration.ofSeconds(5)));
+        } finally {
+            FailureCapture.disable();
+        }
+
+        Assertions.assertEquals(0, browser.count("getScreenshotAs"));
+        try (var list = Files.list(directory)) {
+            Assertions.assertEquals(0, list.count());
+        }
+    }
+}
@@ -0,0 +1,221 @@
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiFunction;
+
+/**
+ * In-process fake of a browser session, used to measure the commands the wrapper sends without a real browser.
+ * <p>
+ * Every call that would be a remote command on a real driver is counted and delayed by {@link #latency}.
+ * Searches that find nothing are delayed by the implicit wait, like on a real driver.
+ * Elements are registered per locator with {@link #add(By)}.
+ */
+public class FakeBrowser {
+    /**
+     * Simulated round-trip time of every command.
+     */
+    public volatile Duration latency = Duration.ZERO;
+
+    /**
+     * Handles {@code executeScript} calls, receiving the script and its arguments.
+     */
+    public volatile BiFunction<String, Object[], Object> scriptHandler = (script, args) -> null;
+
+    /**
+     * PNG bytes returned by {@code getScreenshotAs}, {@code null} to return nothing.
+     */
+    public volatile byte[] screenshot;
+
+    public final WebDriver driver;
+
+    private final Map<String, AtomicInteger> commands = new ConcurrentHashMap<>();
+    private final Map<By, List<FakeElement>> dom = new ConcurrentHashMap<>();
+    private volatile Duration implicitWait = Duration.ZERO;
+
+    public FakeBrowser() {
+        this.driver = (WebDriver) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{WebDriver.class, JavascriptExecutor.class, TakesScreenshot.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findElement" -> findElement((By) args[0]);
+                    case "findElements" -> findElements((By) args[0]);
+                    case "executeScript" -> {
+                        command("executeScript");
+                        yield scriptHandler.apply((String) args[0], (Object[]) args[1]);
+                    }
+                    case "getScreenshotAs" -> {
+                        command("getScreenshotAs");
+                        yield screenshot == null ? null : ((OutputType<?>) args[0]).convertFromPngBytes(screenshot);
+                    }
+                    case "manage" -> options();
+                    case "switchTo" -> local(WebDriver.TargetLocator.class, "switchTo.");
+                    case "navigate" -> local(WebDriver.Navigation.class, "navigate.");
+                    case "getCurrentUrl" -> {
+                        command("getCurrentUrl");
+                        yield "about:blank";
+                    }
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "FakeBrowser";
+                    default -> {
+                        command(method.getName());
+                        yield null;
+                    }
+                });
+    }
+
+    /**
+     * Registers a new element that can be found with the given locator.
+     *
+     * @param by The locator of the element.
+     * @return The registered element.
+     */
+    public FakeElement add(By by) {
+        FakeElement element = new FakeElement(this);
+        dom.computeIfAbsent(by, x -> new CopyOnWriteArrayList<>()).add(element);
+        return element;
+    }
+
+    /**
+     * Removes every element registered with the given locator.
+     *
+     * @param by The locator of the elements.
+     */
+    public void remove(By by) {
+        dom.remove(by);
+    }
+
+    /**
+     * Counts and delays a command.
+     *
+     * @param name Name of the command.
+     */
+    void command(String name) {
+        commands.computeIfAbsent(name, x -> new AtomicInteger()).incrementAndGet();
+        long nanos = latency.toNanos();
+        if (nanos > 0)
+            LockSupport.parkNanos(nanos);
+    }
+
+    /**
+     * Retrieves the number of times a command was sent.
+     *
+     * @param name Name of the command.
+     * @return The number of calls.
+     */
+    public int count(String name) {
+        AtomicInteger count = commands.get(name);
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * Retrieves the number of every command sent.
+     *
+     * @return The total number of commands.
+     */
+    public int total() {
+        return commands.values().stream().mapToInt(AtomicInteger::get).sum();
+    }
+
+    /**
+     * Retrieves the commands sent, by their names.
+     *
+     * @return A copy of the command counts.
+     */
+    public Map<String, Integer> commands() {
+        Map<String, Integer> copy = new ConcurrentHashMap<>();
+        commands.forEach((name, count) -> copy.put(name, count.get()));
+        return copy;
+    }
+
+    /**
+     * Clears the command counts.
+     */
+    public void resetCounts() {
+        commands.clear();
+    }
+
+    private WebElement findElement(By by) {
+        List<WebElement> found = findElements(by, "findElement");
+        if (found.isEmpty())
+            throw new NoSuchElementException("Cannot locate an element using " + by);
+        return found.get(0);
+    }
+
+    private List<WebElement> findElements(By by) {
+        return findElements(by, "findElements");
+    }
+
+    private List<WebElement> findElements(By by, String command) {
+        command(command);
+        List<WebElement> found = new ArrayList<>();
+        for (FakeElement element : dom.getOrDefault(by, List.of()))
+            found.add(element.asWebElement());
+        if (found.isEmpty() && !implicitWait.isZero())
+            LockSupport.parkNanos(implicitWait.toNanos());
+        return found;
+    }
+
+    private Object options() {
+        return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{WebDriver.Options.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "timeouts" -> timeouts();
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "FakeOptions";
+                    default -> {
+                        command("options." + method.getName());
+                        yield null;
+                    }
+                });
+    }
+
+    private Object timeouts() {
+        return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{WebDriver.Timeouts.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getImplicitWaitTimeout" -> {
+                        command("getImplicitWaitTimeout");
+                        yield implicitWait;
+                    }
+                    case "implicitlyWait" -> {
+                        command("implicitlyWait");
+                        if (args.length == 1)
+                            implicitWait = (Duration) args[0];
+                        yield proxy;
+                    }
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "FakeTimeouts";
+                    default -> {
+                        command("timeouts." + method.getName());
+                        yield proxy;
+                    }
+                });
+    }
+
+    private Object local(Class<?> type, String prefix) {
+        return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> prefix;
+                    default -> {
+                        command(prefix + method.getName());
+                        yield method.getReturnType() == WebDriver.class ? driver : null;
+                    }
+                });
+    }
+}
@@ -0,0 +1,88 @@
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Element of a {@link FakeBrowser}, with configurable text, attributes, visibility timing, staleness and failures.
+ */
+public class FakeElement {
+    public volatile String text = "";
+    public volatile boolean enabled = true;
+    public volatile boolean stale = false;
+    /**
+     * Failure thrown by every call of the element, {@code null} to answer normally.
+     */
+    public volatile RuntimeException failure;
+    public volatile Runnable onClick = () -> {};
+    public final Map<String, String> attributes = new ConcurrentHashMap<>();
+
+    private final FakeBrowser browser;
+    private final WebElement webElement;
+    private volatile long displayedAt = 0;
+
+    FakeElement(FakeBrowser browser) {
+        this.browser = browser;
+        this.webElement = (WebElement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{WebElement.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "FakeElement[" + text + "]";
+                    default -> {
+                        browser.command(method.getName());
+                        if (stale)
+                            throw new StaleElementReferenceException("Element is no longer attached to the DOM");
+                        if (failure != null)
+                            throw failure;
+                        yield handle(method.getName(), args);
+                    }
+                });
+    }
+
+    /**
+     * Makes the element visible only after the given time has passed.
+     *
+     * @param delay Time until the element is displayed.
+     * @return Instance itself for chain support.
+     */
+    public FakeElement displayedAfter(Duration delay) {
+        displayedAt = System.nanoTime() + delay.toNanos();
+        return this;
+    }
+
+    public FakeElement withText(String text) {
+        this.text = text;
+        return this;
+    }
+
+    public WebElement asWebElement() {
+        return webElement;
+    }
+
+    private Object handle(String method, Object[] args) {
+        return switch (method) {
+            case "isDisplayed" -> System.nanoTime() >= displayedAt;
+            case "isEnabled" -> enabled;
+            case "isSelected" -> Boolean.parseBoolean(attributes.get("checked"));
+            case "getText" -> text;
+            case "getAttribute", "getDomAttribute", "getDomProperty" -> attributes.get((String) args[0]);
+            case "getTagName" -> attributes.getOrDefault("tagName", "div");
+            case "sendKeys" -> {
+                for (Object keys : (Object[]) args[0])
+                    attributes.merge("value", String.valueOf(keys), String::concat);
+                yield null;
+            }
+            case "clear" -> attributes.remove("value");
+            case "click" -> {
+                onClick.run();
+                yield null;
+            }
+            case "findElements" -> List.of();
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,146 @@
+import com.gbursali.elements.HTMLElement;
+import com.gbursali.events.ElementActionEvent;
+import com.gbursali.events.ElementLookupEvent;
+import com.gbursali.events.ElementWaitEvent;
+import com.gbursali.excel.ExcelFile;
+import com.gbursali.strings.Placeholders;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.openqa.selenium.By;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+public class FlightRecorderTests {
+    private static final List<String> EVENTS = List.of("com.gbursali.ElementLookup", "com.gbursali.ElementWait",
+            "com.gbursali.ElementAction", "com.gbursali.ExcelLoad", "com.gbursali.PlaceholderRender");
+
+    private final By buttonLocator = By.cssSelector("button#save");
+
+    /**
+     * Runs the operation within a recording, enabling the events of the wrapper if requested.
+     *
+     * @param enabled   Whether the events of the wrapper are enabled.
+     * @param operation The operation to record.
+     * @return The recorded events of the wrapper, in the order they were committed.
+     */
+    private List<RecordedEvent> record(boolean enabled, Runnable operation) throws IOException {
+        Path file = Files.createTempFile("events", ".jfr");
+        try (Recording recording = new Recording()) {
+            if (enabled)
+                EVENTS.forEach(x -> recording.enable(x).withoutThreshold());
+            recording.start();
+            operation.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(x -> x.getEventType().getName().startsWith("com.gbursali."))
+                    .toList();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream().filter(x -> x.getEventType().getName().equals(name)).toList();
+    }
+
+    private FakeBrowser newBrowser() {
+        FakeBrowser browser = new FakeBrowser();
+        browser.latency = Duration.ofMillis(1);
+        HTMLElement.driver = browser.driver;
+        return browser;
+    }
+
+    @Test
+    @DisplayName("A lookup and an action should record their locator, result and duration")
+    public void lookupAndActionAreRecorded() throws IOException {
+        newBrowser().add(buttonLocator).withText("Save");
+
+        List<RecordedEvent> events = record(true, () -> new HTMLElement(buttonLocator).getText());
+
+        List<RecordedEvent> lookups = named(events, "com.gbursali.ElementLookup");
+        Assertions.assertEquals(1, lookups.size());
+        Assertions.assertEquals(buttonLocator.toString(), lookups.get(0).getString("locator"));
+        Assertions.assertTrue(lookups.get(0).getBoolean("found"));
+        Assertions.assertFalse(lookups.get(0).getDuration().isZero());
+
+        List<RecordedEvent> actions = named(events, "com.gbursali.ElementAction");
+        Assertions.assertEquals(1, actions.size());
+        Assertions.assertEquals(buttonLocator.toString(), actions.get(0).getString("locator"));
+        Assertions.assertEquals("getText", actions.get(0).getString("action"));
+        Assertions.assertTrue(actions.get(0).getBoolean("succeeded"));
+        Assertions.assertTrue(actions.get(0).getDuration().compareTo(lookups.get(0).getDuration()) >= 0);
+    }
+
+    @Test
+    @DisplayName("A wait should record its condition, retries and duration")
+    public void waitIsRecorded() throws IOException {
+        Duration delay = Duration.ofMillis(300);
+        newBrowser().add(buttonLocator).displayedAfter(delay);
+
+        List<RecordedEvent> events = record(true, () -> new HTMLElement(buttonLocator).waitFor.clickability());
+
+        List<RecordedEvent> waits = named(events, "com.gbursali.ElementWait");
+        Assertions.assertEquals(1, waits.size());
+        RecordedEvent wait = waits.get(0);
+        Assertions.assertEquals(buttonLocator.toString(), wait.getString("locator"));
+        Assertions.assertEquals("clickability", wait.getString("condition"));
+        Assertions.assertTrue(wait.getInt("retries") > 0, "Retries: " + wait.getInt("retries"));
+        Assertions.assertTrue(wait.getBoolean("succeeded"));
+        Assertions.assertTrue(wait.getDuration().compareTo(delay) >= 0, "Duration: " + wait.getDuration());
+    }
+
+    @Test
+    @DisplayName("The events should not be recorded unless they are enabled")
+    public void eventsAreDisabledByDefault() throws IOException {
+        newBrowser().add(buttonLocator).withText("Save");
+
+        List<RecordedEvent> events = record(false, () -> {
+            HTMLElement button = new HTMLElement(buttonLocator);
+            button.waitFor.clickability();
+            button.getText();
+            Placeholders.of().add("Type", "test").apply("A <Type>");
+        });
+
+        Assertions.assertEquals(List.of(), events);
+        Assertions.assertFalse(new ElementLookupEvent().isEnabled());
+        Assertions.assertFalse(new ElementWaitEvent().isEnabled());
+        Assertions.assertFalse(new ElementActionEvent().isEnabled());
+    }
+
+    @Test
+    @DisplayName("Rendering placeholders should record the keys and the input length")
+    public void placeholderRenderIsRecorded() throws IOException {
+        String input = "This <Type> is recorded";
+
+        List<RecordedEvent> events = record(true, () -> Placeholders.of().add("Type", "test").apply(input));
+
+        List<RecordedEvent> renders = named(events, "com.gbursali.PlaceholderRender");
+        Assertions.assertEquals(1, renders.size());
+        Assertions.assertTrue(renders.get(0).getString("keys").contains("Type"), renders.get(0).getString("keys"));
+        Assertions.assertEquals(input.length(), renders.get(0).getInt("inputLength"));
+    }
+
+    @Test
+    @DisplayName("Loading an Excel file should record the file and its sheet count")
+    public void excelLoadIsRecorded() throws IOException {
+        File file = Path.of("src", "test", "resources", "excelTestFile.xlsx").toFile();
+        ExcelFile[] loaded = new ExcelFile[1];
+
+        List<RecordedEvent> events = record(true, () -> loaded[0] = ExcelFile.fromExisting(file));
+
+        List<RecordedEvent> loads = named(events, "com.gbursali.ExcelLoad");
+        Assertions.assertEquals(1, loads.size());
+        Assertions.assertEquals(file.getPath(), loads.get(0).getString("file"));
+        Assertions.assertEquals(loaded[0].sheets.size(), loads.get(0).getInt("sheets"));
+    }
+}
@@ -0,0 +1,109 @@
+import com.gbursali.elements.HTMLElement;
+import com.gbursali.forms.FormFiller;
+import com.gbursali.forms.FormModel;
+import com.gbursali.forms.FormResult;
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.openqa.selenium.By;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class FormFillerTests {
+    private final By nameLocator = By.cssSelector("input#name");
+    private final By phoneLocator = By.cssSelector("input#phone");
+    private final By termsLocator = By.cssSelector("input#terms");
+
+    /**
+     * Browser whose form scripts apply every target, recording the targets of each script and the phone value
+     * at the time of the script.
+     */
+    private static class FormBrowser extends FakeBrowser {
+        final List<List<?>> batches = new ArrayList<>();
+        final List<String> phoneValues = new ArrayList<>();
+        final FakeElement phone;
+
+        FormBrowser(By phoneLocator) {
+            phone = add(phoneLocator);
+            scriptHandler = (script, args) -> {
+                if (!script.contains("gbSetValue(e, target[4])"))
+                    return null;
+                List<?> targets = (List<?>) args[0];
+                batches.add(targets);
+                phoneValues.add(phone.attributes.getOrDefault("value", ""));
+                return targets.stream().map(x -> Map.of("found", true, "applied", true)).toList();
+            };
+            HTMLElement.driver = driver;
+        }
+    }
+
+    @Test
+    @DisplayName("apply should batch only adjacent scriptable fields, keeping the order of the model")
+    public void applyKeepsModelOrder() {
+        FormBrowser browser = new FormBrowser(phoneLocator);
+        FormModel model = FormModel.of()
+                .textbox(nameLocator, "John")
+                .typed(phoneLocator, "555")
+                .checkbox(termsLocator, true);
+
+        FormResult result = FormFiller.apply(model);
+
+        Assertions.assertTrue(result.isSuccessful());
+        Assertions.assertEquals(2, browser.batches.size());
+        Assertions.assertEquals(List.of("", "555"), browser.phoneValues);
+        Assertions.assertEquals(List.of(FormResult.Outcome.SCRIPTED, FormResult.Outcome.WEBDRIVER, FormResult.Outcome.SCRIPTED),
+                result.fields().stream().map(FormResult.FieldResult::outcome).toList());
+    }
+
+    @Test
+    @DisplayName("apply should write adjacent scriptable fields with a single script")
+    public void applyBatchesAdjacentFields() {
+        FormBrowser browser = new FormBrowser(phoneLocator);
+        FormModel model = FormModel.of()
+                .textbox(nameLocator, "John")
+                .checkbox(termsLocator, true)
+                .textbox(phoneLocator, "555");
+
+        FormFiller.apply(model);
+
+        Assertions.assertEquals(1, browser.batches.size());
+        Assertions.assertEquals(3, browser.batches.get(0).size());
+        Assertions.assertEquals(1, browser.count("executeScript"));
+    }
+
+    @Test
+    @DisplayName("checkbox values should be normalised to a boolean")
+    public void checkboxValuesAreBooleans() {
+        FormBrowser browser = new FormBrowser(phoneLocator);
+        FormModel model = FormModel.of()
+                .add(termsLocator, FormModel.FieldType.CHECKBOX, "TRUE");
+
+        FormFiller.apply(model);
+
+        Assertions.assertEquals(Boolean.TRUE, model.getFields().get(0).value());
+        Assertions.assertEquals(Boolean.TRUE, ((List<?>) browser.batches.get(0).get(0)).get(4));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> FormModel.of().add(termsLocator, FormModel.FieldType.CHECKBOX, "yes"));
+    }
+
+    @Test
+    @DisplayName("verify should report every field that could not be filled")
+    public void verifyReportsFailures() {
+        FakeBrowser browser = new FakeBrowser();
+        browser.scriptHandler = (script, args) -> List.of(Map.of("found", false), Map.of("found", true, "applied", false));
+        HTMLElement.driver = browser.driver;
+        FormModel model = FormModel.of()
+                .textbox(nameLocator, "John")
+                .checkbox(termsLocator, true);
+
+        FormResult result = FormFiller.apply(model);
+
+        Assertions.assertFalse(result.isSuccessful());
+        Assertions.assertEquals(2, result.failures().size());
+        AssertionError error = Assertions.assertThrows(AssertionError.class, result::verify);
+        Assertions.assertTrue(error.getMessage().startsWith("2 of 2 form fields could not be filled"));
+        Assertions.assertTrue(error.getMessage().contains(nameLocator + ": Element is not found"));
+    }
+}
@@ -0,0 +1,126 @@
+import com.gbursali.elements.ElementContext;
+import com.gbursali.elements.HTMLElement;
+import com.gbursali.elements.HTMLElements;
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+public class HTMLElementsTests {
+    private final By rowLocator = By.cssSelector("table tr");
+
+    private FakeBrowser newBrowser() {
+        FakeBrowser browser = new FakeBrowser();
+        HTMLElement.driver = browser.driver;
+        return browser;
+    }
+
+    @Test
+    @DisplayName("texts should read every element in a single script, resolving the locator in the browser")
+    public void textsUseSingleScript() {
+        FakeBrowser browser = newBrowser();
+        List<Object[]> calls = new ArrayList<>();
+        browser.scriptHandler = (script, args) -> {
+            calls.add(args);
+            return List.of("First", "Second", "Third");
+        };
+
+        List<String> texts = new HTMLElements(rowLocator).texts();
+
+        Assertions.assertEquals(List.of("First", "Second", "Third"), texts);
+        Assertions.assertEquals(1, browser.total());
+        Assertions.assertEquals(List.of("css selector", "table tr"), Arrays.asList(calls.get(0)).subList(0, 2));
+    }
+
+    @Test
+    @DisplayName("attributes should keep missing values as null")
+    public void attributesKeepNulls() {
+        FakeBrowser browser = newBrowser();
+        List<Object> arguments = new ArrayList<>();
+        browser.scriptHandler = (script, args) -> {
+            arguments.add(args[3]);
+            return Arrays.asList("a", null, "c");
+        };
+
+        List<String> values = new HTMLElements(rowLocator).attributes("data-id");
+
+        Assertions.assertEquals(Arrays.asList("a", null, "c"), values);
+        Assertions.assertEquals(List.of("data-id"), arguments);
+        Assertions.assertEquals(1, browser.count("executeScript"));
+    }
+
+    @Test
+    @DisplayName("states should convert the state of every element")
+    public void statesAreConverted() {
+        FakeBrowser browser = newBrowser();
+        browser.scriptHandler = (script, args) -> List.of(
+                Map.of("displayed", true, "enabled", true, "selected", false),
+                Map.of("displayed", false, "enabled", false, "selected", true));
+
+        List<HTMLElements.State> states = new HTMLElements(rowLocator).states();
+
+        Assertions.assertEquals(List.of(
+                new HTMLElements.State(true, true, false),
+                new HTMLElements.State(false, false, true)), states);
+        Assertions.assertEquals(1, browser.total());
+    }
+
+    @Test
+    @DisplayName("Locators that cannot run in the browser should be found first and passed to the script")
+    public void unsupportedLocatorsArePrefetched() {
+        FakeBrowser browser = newBrowser();
+        By custom = new By() {
+            @Override
+            public List<WebElement> findElements(SearchContext context) {
+                return context.findElements(this);
+            }
+
+            @Override
+            public String toString() {
+                return "By.custom: rows";
+            }
+        };
+        WebElement row = browser.add(custom).asWebElement();
+        List<Object> prefetched = new ArrayList<>();
+        browser.scriptHandler = (script, args) -> {
+            prefetched.add(args[2]);
+            return 1L;
+        };
+
+        Assertions.assertEquals(1, new HTMLElements(custom).size());
+        Assertions.assertEquals(List.of(List.of(row)), prefetched);
+        Assertions.assertEquals(1, browser.count("findElements"));
+        Assertions.assertEquals(1, browser.count("executeScript"));
+    }
+
+    @Test
+    @DisplayName("An unexpected script result should be read as no elements")
+    public void unexpectedResultIsEmpty() {
+        newBrowser();
+
+        Assertions.assertEquals(List.of(), new HTMLElements(rowLocator).texts());
+        Assertions.assertEquals(List.of(), new HTMLElements(rowLocator).states());
+        Assertions.assertEquals(0, new HTMLElements(rowLocator).size());
+    }
+
+    @Test
+    @DisplayName("Elements within a frame should be read after switching to the frame")
+    public void withinSwitchesToFrame() {
+        FakeBrowser browser = newBrowser();
+        browser.add(By.id("report"));
+        browser.scriptHandler = (script, args) -> List.of("First");
+
+        List<String> texts = new HTMLElements(rowLocator).within(ElementContext.top().frame(By.id("report"))).texts();
+
+        Assertions.assertEquals(List.of("First"), texts);
+        Assertions.assertEquals(1, browser.count("switchTo.frame"));
+        Assertions.assertEquals(1, browser.count("executeScript"));
+    }
+}
@@ -2,7 +2,10 @@ import org.junit.Test;
 import org.junit.jupiter.api.*;
 import org.openqa.selenium.By;
 import com.gbursali.locators.LocatorFinder;
+import com.google.gson.JsonSyntaxException;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -40,4 +43,62 @@ public class LocatorFinderTests {
         var exception = Assertions.assertThrows(IllegalArgumentException.class, () -> locator.locate(invalidKey));
         assertEquals("JSON does not have the key: " + invalidKey, exception.getMessage());
     }
+
+    @Test
+    @DisplayName("LocatorFinder should return the precompiled By element on every call")
+    public void locateReturnsPrecompiledBy() {
+        Assertions.assertSame(locator.locate("LoginXp"), locator.locate("LoginXp"));
+    }
+
+    @Test
+    @DisplayName("LocatorFinder should report duplicate keys and invalid locators when the file is read")
+    public void reportInvalidEntriesOnFile() throws IOException {
+        Path file = Files.createTempFile("locators", ".json");
+        try {
+            Files.writeString(file, """
+                    {
+                      "LoginButton": "div form button",
+                      "LoginButton": "//button",
+                      "Blank": " ",
+                      "Nested": {"css": "button"}
+                    }
+                    """);
+            var exception = Assertions.assertThrows(IllegalArgumentException.class, () -> LocatorFinder.ofFile(file));
+            Assertions.assertTrue(exception.getMessage().contains("LoginButton is defined more than once"), exception.getMessage());
+            Assertions.assertTrue(exception.getMessage().contains("Blank should not be blank"), exception.getMessage());
+            Assertions.assertTrue(exception.getMessage().contains("Nested should be a string"), exception.getMessage());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("LocatorFinder should read files as leniently as JsonParser")
+    public void readFilesLeniently() throws IOException {
+        Path file = Files.createTempFile("locators", ".json");
+        try {
+            Files.writeString(file, """
+                    {
+                      // Login page
+                      LoginButton: 'div form button'
+                    }
+                    """);
+            assertEquals(By.cssSelector("div form button"), LocatorFinder.ofFile(file).locate("LoginButton"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("LocatorFinder should report a file without a JSON object as a syntax error")
+    public void reportNonObjectRoot() throws IOException {
+        Path file = Files.createTempFile("locators", ".json");
+        try {
+            Files.writeString(file, "[\"div form button\"]");
+            var exception = Assertions.assertThrows(JsonSyntaxException.class, () -> LocatorFinder.ofFile(file));
+            Assertions.assertTrue(exception.getMessage().contains("BEGIN_ARRAY"), exception.getMessage());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
 }
@@ -0,0 +1,66 @@
+import com.gbursali.elements.HTMLElement;
+import com.gbursali.elements.OperationLog;
+import com.gbursali.elements.Session;
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.openqa.selenium.By;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class OperationLogTests {
+    private final By titleLocator = By.cssSelector("h1.title");
+
+    @Test
+    @DisplayName("A full log should keep the most recent operations, oldest first")
+    public void fullLogKeepsRecentOperations() {
+        OperationLog log = new OperationLog(3);
+        for (int i = 0; i < 5; i++)
+            log.record("op" + i, null, System.nanoTime(), true);
+
+        List<String> operations = log.entries().stream()
+                .map(OperationLog.Entry::operation)
+                .toList();
+
+        Assertions.assertEquals(List.of("op2", "op3", "op4"), operations);
+        Assertions.assertEquals(5, log.getCount());
+    }
+
+    @Test
+    @DisplayName("A failed verification should carry the recent operations of its session")
+    public void failedVerificationCarriesOperations() {
+        FakeBrowser browser = new FakeBrowser();
+        browser.add(titleLocator).withText("Welcome");
+        HTMLElement.driver = browser.driver;
+        Session.current().getOperations().clear();
+        var title = new HTMLElement(titleLocator);
+
+        title.getText();
+        AssertionError failure = Assertions.assertThrows(AssertionError.class, () -> title.verify.text("Goodbye"));
+
+        OperationLog.History history = Arrays.stream(failure.getSuppressed())
+                .filter(OperationLog.History.class::isInstance)
+                .map(OperationLog.History.class::cast)
+                .findFirst()
+                .orElseThrow();
+        Assertions.assertTrue(history.getMessage().contains("ok   getText " + titleLocator), history.getMessage());
+        Assertions.assertTrue(history.getMessage().contains("FAIL verify " + titleLocator), history.getMessage());
+    }
+
+    @Test
+    @DisplayName("Passing verifications should be recorded with their nested operations")
+    public void passingVerificationsAreRecorded() {
+        FakeBrowser browser = new FakeBrowser();
+        browser.add(titleLocator).withText("Welcome");
+        HTMLElement.driver = browser.driver;
+        Session.current().getOperations().clear();
+        var title = new HTMLElement(titleLocator);
+
+        title.verify.text("Welcome");
+
+        List<OperationLog.Entry> entries = Session.current().getOperations().entries();
+        Assertions.assertEquals(List.of("getText", "verify"), entries.stream().map(OperationLog.Entry::operation).toList());
+        Assertions.assertTrue(entries.stream().allMatch(OperationLog.Entry::succeeded));
+    }
+}
@@ -0,0 +1,68 @@
+import com.gbursali.elements.HTMLElement;
+import com.gbursali.elements.Textbox;
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.pagefactory.FieldDecorator;
+
+import java.lang.reflect.Field;
+
+public class PageDecoratorTests {
+
+    public static class FailingElement extends HTMLElement {
+        public FailingElement(By by) {
+            super(by);
+            throw new IllegalStateException("Element cannot be built");
+        }
+    }
+
+    public static class LoginPage {
+        @FindBy(css = "input#user")
+        public Textbox user;
+
+        @FindBy(css = "button#broken")
+        public FailingElement broken;
+
+        public String title;
+    }
+
+    private static Object decorate(FieldDecorator decorator, String name) throws NoSuchFieldException {
+        Field field = LoginPage.class.getField(name);
+        return decorator.decorate(LoginPage.class.getClassLoader(), field);
+    }
+
+    @Test
+    @DisplayName("The decorator should build the element type of the field with its locator")
+    public void decoratorBuildsFieldType() throws NoSuchFieldException {
+        FieldDecorator decorator = HTMLElement.getDecorator(new FakeBrowser().driver);
+
+        Object user = decorate(decorator, "user");
+
+        Assertions.assertTrue(user instanceof Textbox);
+        Assertions.assertEquals(By.cssSelector("input#user"), ((Textbox) user).asBy());
+        Assertions.assertNull(decorate(decorator, "title"));
+    }
+
+    @Test
+    @DisplayName("Exceptions of the element constructor should be thrown unchanged")
+    public void constructorExceptionsAreNotWrapped() {
+        FieldDecorator decorator = HTMLElement.getDecorator(new FakeBrowser().driver);
+
+        var exception = Assertions.assertThrows(IllegalStateException.class, () -> decorate(decorator, "broken"));
+        Assertions.assertEquals("Element cannot be built", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("A missing driver should be reported as is")
+    public void missingDriverIsReported() {
+        FieldDecorator decorator = HTMLElement.getDecorator(null);
+        try {
+            var exception = Assertions.assertThrows(NullPointerException.class, () -> decorate(decorator, "user"));
+            Assertions.assertEquals("You should set the HTMLElement.driver first.", exception.getMessage());
+        } finally {
+            HTMLElement.driver = new FakeBrowser().driver;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+import com.gbursali.elements.HTMLElement;
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.openqa.selenium.By;
+
+import java.time.Duration;
+import java.util.Map;
+
+public class PageQuietTests {
+    private final By titleLocator = By.cssSelector("h1.title");
+
+    /**
+     * Simulates a page with a pending request until the given time, and no activity afterward.
+     */
+    private FakeBrowser newBrowser(Duration busyFor) {
+        FakeBrowser browser = new FakeBrowser();
+        browser.add(titleLocator);
+        long busyUntil = System.nanoTime() + busyFor.toNanos();
+        browser.scriptHandler = (script, args) -> {
+            long now = System.nanoTime();
+            return Map.of(
+                    "pending", now < busyUntil ? 1L : 0L,
+                    "idle", now < busyUntil ? 0.0 : (now - busyUntil) / 1e6);
+        };
+        HTMLElement.driver = browser.driver;
+        return browser;
+    }
+
+    @Test
+    @DisplayName("pageQuiet should wait until the page stays idle for the window")
+    public void pageQuietWaitsForTheIdleWindow() {
+        newBrowser(Duration.ofMillis(300));
+        long start = System.nanoTime();
+
+        new HTMLElement(titleLocator).waitFor.pageQuiet(Duration.ofMillis(200));
+
+        long elapsed = System.nanoTime() - start;
+        Assertions.assertTrue(elapsed >= Duration.ofMillis(500).toNanos(), "Resolved after " + elapsed / 1e6 + " ms");
+        Assertions.assertTrue(elapsed < Duration.ofSeconds(2).toNanos(), "Resolved after " + elapsed / 1e6 + " ms");
+    }
+
+    @Test
+    @DisplayName("pageQuiet should resolve on the first check of an idle page")
+    public void pageQuietResolvesOnIdlePage() {
+        FakeBrowser browser = newBrowser(Duration.ofSeconds(-1));
+
+        new HTMLElement(titleLocator).waitFor.pageQuiet(Duration.ofMillis(200));
+
+        Assertions.assertEquals(1, browser.count("executeScript"));
+    }
+}
@@ -0,0 +1,82 @@
+import com.gbursali.elements.HTMLElement;
+import com.gbursali.elements.PageResolver;
+import com.gbursali.elements.Session;
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class PageResolverTests {
+    private static final int FIELDS = 30;
+
+    /**
+     * Page object with {@value #FIELDS} element fields.
+     */
+    public static class LargePage {
+        public HTMLElement f0 = new HTMLElement(By.cssSelector("#f0")), f1 = new HTMLElement(By.cssSelector("#f1")),
+                f2 = new HTMLElement(By.cssSelector("#f2")), f3 = new HTMLElement(By.cssSelector("#f3")),
+                f4 = new HTMLElement(By.cssSelector("#f4")), f5 = new HTMLElement(By.cssSelector("#f5")),
+                f6 = new HTMLElement(By.cssSelector("#f6")), f7 = new HTMLElement(By.cssSelector("#f7")),
+                f8 = new HTMLElement(By.cssSelector("#f8")), f9 = new HTMLElement(By.cssSelector("#f9")),
+                f10 = new HTMLElement(By.cssSelector("#f10")), f11 = new HTMLElement(By.cssSelector("#f11")),
+                f12 = new HTMLElement(By.cssSelector("#f12")), f13 = new HTMLElement(By.cssSelector("#f13")),
+                f14 = new HTMLElement(By.cssSelector("#f14")), f15 = new HTMLElement(By.cssSelector("#f15")),
+                f16 = new HTMLElement(By.cssSelector("#f16")), f17 = new HTMLElement(By.cssSelector("#f17")),
+                f18 = new HTMLElement(By.cssSelector("#f18")), f19 = new HTMLElement(By.cssSelector("#f19")),
+                f20 = new HTMLElement(By.cssSelector("#f20")), f21 = new HTMLElement(By.cssSelector("#f21")),
+                f22 = new HTMLElement(By.cssSelector("#f22")), f23 = new HTMLElement(By.cssSelector("#f23")),
+                f24 = new HTMLElement(By.cssSelector("#f24")), f25 = new HTMLElement(By.cssSelector("#f25")),
+                f26 = new HTMLElement(By.cssSelector("#f26")), f27 = new HTMLElement(By.cssSelector("#f27")),
+                f28 = new HTMLElement(By.cssSelector("#f28")), f29 = new HTMLElement(By.cssSelector("#f29"));
+
+        List<HTMLElement> fields() {
+            return List.of(f0, f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15, f16, f17, f18, f19,
+                    f20, f21, f22, f23, f24, f25, f26, f27, f28, f29);
+        }
+    }
+
+    /**
+     * Adds the fields of the {@link LargePage} to the browser, answering the resolution script with them.
+     */
+    private static FakeBrowser newBrowser() {
+        FakeBrowser browser = new FakeBrowser();
+        List<WebElement> elements = new ArrayList<>();
+        for (int i = 0; i < FIELDS; i++)
+            elements.add(browser.add(By.cssSelector("#f" + i)).withText("Field " + i).asWebElement());
+        browser.scriptHandler = (script, args) -> elements;
+        HTMLElement.driver = browser.driver;
+        return browser;
+    }
+
+    @Test
+    @DisplayName("Using the fields of a resolved page should not look them up or check them again")
+    public void resolvedFieldsAreTrusted() {
+        FakeBrowser browser = newBrowser();
+        LargePage page = new LargePage();
+
+        Assertions.assertEquals(FIELDS, PageResolver.resolveAll(page));
+        for (int i = 0; i < FIELDS; i++)
+            Assertions.assertEquals("Field " + i, page.fields().get(i).getText());
+
+        Assertions.assertEquals(1, browser.count("executeScript"));
+        Assertions.assertEquals(FIELDS, browser.count("getText"));
+        Assertions.assertEquals(FIELDS + 1, browser.total());
+    }
+
+    @Test
+    @DisplayName("Resolved fields should be checked again once the page epoch changes")
+    public void newPageEndsTheTrust() {
+        FakeBrowser browser = newBrowser();
+        LargePage page = new LargePage();
+        PageResolver.resolveAll(page);
+
+        Session.current().newPage();
+        page.f0.getText();
+
+        Assertions.assertEquals(1, browser.count("isDisplayed"));
+    }
+}
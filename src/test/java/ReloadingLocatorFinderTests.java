@@ -0,0 +1,100 @@
+import com.gbursali.locators.LocatorFinder;
+import com.gbursali.locators.ReloadingLocatorFinder;
+import com.google.gson.JsonSyntaxException;
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.openqa.selenium.By;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.BooleanSupplier;
+
+public class ReloadingLocatorFinderTests {
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            Assertions.assertTrue(System.nanoTime() < deadline, "The file is not reloaded");
+            Thread.sleep(20);
+        }
+    }
+
+    private static Path newDirectory() throws IOException {
+        return Files.createTempDirectory("locators");
+    }
+
+    @Test
+    @DisplayName("Changes of the file should be loaded without a restart")
+    public void changesAreReloaded() throws IOException, InterruptedException {
+        Path directory = newDirectory();
+        Path file = directory.resolve("elements.json");
+        Files.writeString(file, "{\"LoginButton\": \"button.login\"}");
+
+        try (ReloadingLocatorFinder locator = LocatorFinder.watching(file)) {
+            Assertions.assertEquals(By.cssSelector("button.login"), locator.locate("LoginButton"));
+
+            Files.writeString(file, "{\"LoginButton\": \"//button[@id='login']\"}");
+            waitFor(() -> locator.getReloadCount() > 0);
+
+            Assertions.assertEquals(By.xpath("//button[@id='login']"), locator.locate("LoginButton"));
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Test
+    @DisplayName("An invalid change should keep the previous locators")
+    public void invalidChangeKeepsPreviousLocators() throws IOException, InterruptedException {
+        Path directory = newDirectory();
+        Path file = directory.resolve("elements.json");
+        Files.writeString(file, "{\"LoginButton\": \"button.login\"}");
+
+        try (ReloadingLocatorFinder locator = LocatorFinder.watching(file)) {
+            Files.writeString(file, "{\"LoginButton\": \"button.login\", \"LoginButton\": \"button.other\"}");
+            waitFor(() -> locator.getLastFailure() != null);
+
+            Assertions.assertTrue(locator.getLastFailure() instanceof IllegalArgumentException);
+            Assertions.assertEquals(By.cssSelector("button.login"), locator.locate("LoginButton"));
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Test
+    @DisplayName("A half-written file should be reported as a syntax error, then loaded when complete")
+    public void truncatedChangeIsSyntaxError() throws IOException, InterruptedException {
+        Path directory = newDirectory();
+        Path file = directory.resolve("elements.json");
+        Files.writeString(file, "{\"LoginButton\": \"button.login\"}");
+
+        try (ReloadingLocatorFinder locator = LocatorFinder.watching(file)) {
+            Files.writeString(file, "{\"LoginButton\": \"button.");
+            waitFor(() -> locator.getLastFailure() != null);
+            Assertions.assertTrue(locator.getLastFailure() instanceof JsonSyntaxException, String.valueOf(locator.getLastFailure()));
+
+            Files.writeString(file, "{\"LoginButton\": \"button.other\"}");
+            waitFor(() -> locator.getReloadCount() > 0);
+            Assertions.assertEquals(By.cssSelector("button.other"), locator.locate("LoginButton"));
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Test
+    @DisplayName("A missing file should be reported without leaving a watcher behind")
+    public void missingFileIsReported() throws IOException {
+        Path directory = newDirectory();
+        try {
+            var exception = Assertions.assertThrows(IllegalStateException.class,
+                    () -> LocatorFinder.watching(directory.resolve("elements.json")));
+            Assertions.assertTrue(exception.getMessage().startsWith("File not found on: "), exception.getMessage());
+        } finally {
+            Files.deleteIfExists(directory);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+import com.gbursali.elements.HTMLElement;
+import com.gbursali.replay.CommandRecorder;
+import com.gbursali.replay.ReplayDriver;
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.openqa.selenium.By;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+public class ReplayTests {
+    private final By buttonLocator = By.cssSelector("button#save");
+
+    private Path record() throws IOException {
+        Path file = Files.createTempFile("commands", ".replay");
+        file.toFile().deleteOnExit();
+        FakeBrowser browser = new FakeBrowser();
+        browser.add(buttonLocator).withText("Save").displayedAfter(Duration.ofMillis(300));
+        try (CommandRecorder recorder = CommandRecorder.to(file, browser.driver)) {
+            HTMLElement.driver = recorder.getDriver();
+            var button = new HTMLElement(buttonLocator);
+            button.click();
+            Assertions.assertEquals("Save", button.getText());
+            Assertions.assertTrue(recorder.getCommandCount() >= browser.total());
+        }
+        return file;
+    }
+
+    @Test
+    @DisplayName("Replay should serve the recorded responses with the same command counts")
+    public void replayServesRecordedCommands() throws IOException {
+        ReplayDriver replay = ReplayDriver.from(record()).withSpeed(0);
+        HTMLElement.driver = replay.getDriver();
+        var button = new HTMLElement(buttonLocator);
+        button.click();
+
+        Assertions.assertEquals("Save", button.getText());
+        Assertions.assertEquals(replay.getRecordedCommandCount(), replay.getCommandCount());
+        Assertions.assertEquals(replay.getRecordedTime(), replay.getSimulatedTime());
+    }
+
+    @Test
+    @DisplayName("Replay should fail on a command that was not recorded")
+    public void replayRejectsUnrecordedCommands() throws IOException {
+        ReplayDriver replay = ReplayDriver.from(record()).withSpeed(0);
+        HTMLElement.driver = replay.getDriver();
+
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> replay.getDriver().findElement(By.cssSelector("button#cancel")));
+    }
+}
@@ -0,0 +1,66 @@
+import com.gbursali.elements.HTMLElement;
+import com.gbursali.parallel.FanOutResult;
+import com.gbursali.parallel.SessionFanOut;
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SessionFanOutTests {
+    private static final int SESSIONS = 4;
+    private static final Duration LATENCY = Duration.ofMillis(100);
+
+    private final By titleLocator = By.cssSelector("h1.title");
+
+    private List<WebDriver> newSessions() {
+        List<WebDriver> drivers = new ArrayList<>();
+        for (int i = 0; i < SESSIONS; i++) {
+            FakeBrowser browser = new FakeBrowser();
+            browser.add(titleLocator).withText("Tenant " + i);
+            browser.latency = LATENCY;
+            drivers.add(browser.driver);
+        }
+        return drivers;
+    }
+
+    @Test
+    @DisplayName("Each session should use its own driver, concurrently")
+    public void sessionsRunConcurrentlyOnTheirOwnDrivers() {
+        HTMLElement.driver = new FakeBrowser().driver;
+        List<WebDriver> drivers = newSessions();
+
+        FanOutResult<WebDriver, String> result = SessionFanOut.run(drivers,
+                driver -> new HTMLElement(titleLocator).getText());
+
+        result.verify();
+        Assertions.assertEquals(List.of("Tenant 0", "Tenant 1", "Tenant 2", "Tenant 3"), result.results());
+        Duration slowest = result.sessions().stream()
+                .map(FanOutResult.SessionResult::elapsed)
+                .max(Duration::compareTo)
+                .orElseThrow();
+        Assertions.assertTrue(result.elapsed().compareTo(slowest.multipliedBy(2)) < 0,
+                "Sessions ran sequentially: " + result.elapsed() + " for a slowest session of " + slowest);
+    }
+
+    @Test
+    @DisplayName("Failures should be collected per session")
+    public void failuresAreCollectedPerSession() {
+        HTMLElement.driver = new FakeBrowser().driver;
+        List<WebDriver> drivers = newSessions();
+        WebDriver failing = drivers.get(1);
+
+        FanOutResult<WebDriver, Void> result = SessionFanOut.runEach(drivers, driver -> {
+            if (driver == failing)
+                new HTMLElement(By.cssSelector("button#missing")).getText();
+        });
+
+        Assertions.assertEquals(1, result.failures().size());
+        Assertions.assertSame(failing, result.failures().get(0).driver());
+        Assertions.assertThrows(AssertionError.class, result::verify);
+    }
+}
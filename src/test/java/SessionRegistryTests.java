@@ -0,0 +1,186 @@
+import com.gbursali.elements.HTMLElement;
+import com.gbursali.elements.Session;
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class SessionRegistryTests {
+    private final By titleLocator = By.cssSelector("h1.title");
+
+    private int lookups(FakeBrowser browser) {
+        return browser.count("findElement") + browser.count("findElements");
+    }
+
+    @Test
+    @DisplayName("Instances with the same locator should share a single lookup")
+    public void instancesShareTheLookup() {
+        FakeBrowser browser = new FakeBrowser();
+        browser.add(titleLocator).withText("Welcome");
+        HTMLElement.driver = browser.driver;
+
+        Assertions.assertEquals("Welcome", new HTMLElement(titleLocator).getText());
+        Assertions.assertEquals("Welcome", new HTMLElement(titleLocator).getText());
+        Assertions.assertTrue(new HTMLElement(titleLocator).isExist());
+
+        Assertions.assertEquals(1, lookups(browser));
+    }
+
+    @Test
+    @DisplayName("Navigation should start a new page epoch")
+    public void navigationStartsNewEpoch() {
+        FakeBrowser browser = new FakeBrowser();
+        browser.add(titleLocator).withText("Welcome");
+        WebDriver driver = Session.observe(browser.driver);
+        HTMLElement.driver = driver;
+        long epoch = Session.current().getPageEpoch();
+
+        Assertions.assertEquals("Welcome", new HTMLElement(titleLocator).getText());
+        driver.navigate().to("https://example.com/next");
+        Assertions.assertEquals("Welcome", new HTMLElement(titleLocator).getText());
+
+        Assertions.assertTrue(Session.current().getPageEpoch() > epoch);
+        Assertions.assertEquals(2, lookups(browser));
+    }
+
+    @Test
+    @DisplayName("A stale shared element should be located again")
+    public void staleSharedElementIsLocatedAgain() {
+        FakeBrowser browser = new FakeBrowser();
+        FakeElement first = browser.add(titleLocator).withText("First");
+        HTMLElement.driver = browser.driver;
+        Assertions.assertEquals("First", new HTMLElement(titleLocator).getText());
+
+        first.stale = true;
+        browser.remove(titleLocator);
+        browser.add(titleLocator).withText("Second");
+
+        Assertions.assertEquals("Second", new HTMLElement(titleLocator).getText());
+        Assertions.assertFalse(new HTMLElement(By.cssSelector("h2.missing")).isExist());
+    }
+
+    @Test
+    @DisplayName("A hidden shared element should not be handed out without searching again")
+    public void hiddenSharedElementIsLocatedAgain() {
+        FakeBrowser browser = new FakeBrowser();
+        FakeElement first = browser.add(titleLocator).withText("First");
+        HTMLElement.driver = browser.driver;
+        Assertions.assertEquals("First", new HTMLElement(titleLocator).getText());
+
+        first.displayedAfter(Duration.ofHours(1));
+        browser.remove(titleLocator);
+        browser.add(titleLocator).withText("Second");
+
+        Assertions.assertEquals("Second", new HTMLElement(titleLocator).getText());
+    }
+
+    @Test
+    @DisplayName("A shared element that fails to answer should be dropped and located again")
+    public void failingSharedElementIsLocatedAgain() {
+        FakeBrowser browser = new FakeBrowser();
+        FakeElement first = browser.add(titleLocator).withText("First");
+        HTMLElement.driver = browser.driver;
+        Assertions.assertEquals("First", new HTMLElement(titleLocator).getText());
+        long epoch = Session.current().getPageEpoch();
+
+        first.failure = new WebDriverException("no such window");
+        browser.remove(titleLocator);
+        browser.add(titleLocator).withText("Second");
+
+        Assertions.assertEquals("Second", new HTMLElement(titleLocator).getText());
+        Assertions.assertEquals("Second", new HTMLElement(titleLocator).getText());
+        Assertions.assertEquals(epoch, Session.current().getPageEpoch());
+    }
+
+    @Test
+    @DisplayName("Quitting an observed driver should release its session")
+    public void quitReleasesSession() {
+        FakeBrowser browser = new FakeBrowser();
+        browser.add(titleLocator).withText("Welcome");
+        WebDriver driver = Session.observe(browser.driver);
+        HTMLElement.driver = driver;
+        Session session = Session.current();
+        new HTMLElement(titleLocator).getText();
+
+        driver.quit();
+
+        Assertions.assertNotSame(session, Session.of(driver));
+        Assertions.assertNotSame(session, Session.of(browser.driver));
+    }
+
+    @Test
+    @DisplayName("Closing a session should release it for every driver sharing it")
+    public void closeReleasesSession() {
+        FakeBrowser browser = new FakeBrowser();
+        WebDriver driver = Session.observe(browser.driver);
+        Session session = Session.of(driver);
+
+        Session.close(browser.driver);
+
+        Assertions.assertNotSame(session, Session.of(driver));
+    }
+
+    @Test
+    @DisplayName("Sessions should be kept by the identity of the driver")
+    public void sessionsUseIdentity() {
+        SearchContext first = new EqualContext();
+        SearchContext second = new EqualContext();
+
+        Assertions.assertEquals(first, second);
+        Assertions.assertNotSame(Session.of(first), Session.of(second));
+        Assertions.assertSame(Session.of(first), Session.of(first));
+    }
+
+    @Test
+    @DisplayName("Every thread should retrieve the same session of a driver")
+    public void threadsShareSession() throws Exception {
+        FakeBrowser browser = new FakeBrowser();
+        Session session = Session.of(browser.driver);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Session>> found = new ArrayList<>();
+            for (int i = 0; i < 8; i++)
+                found.add(executor.submit(() -> Session.of(browser.driver)));
+            for (Future<Session> future : found)
+                Assertions.assertSame(session, future.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Search context equal to every other instance, like a driver decorator delegating {@code equals}.
+     */
+    private static class EqualContext implements SearchContext {
+        @Override
+        public List<WebElement> findElements(By by) {
+            return List.of();
+        }
+
+        @Override
+        public WebElement findElement(By by) {
+            return null;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof EqualContext;
+        }
+
+        @Override
+        public int hashCode() {
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+import com.gbursali.elements.ElementContext;
+import com.gbursali.elements.HTMLElement;
+import com.gbursali.elements.SoftVerify;
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.openqa.selenium.By;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SoftVerifyTests {
+    private final By nameLocator = By.cssSelector("input#name");
+    private final By saveLocator = By.cssSelector("button#save");
+    private final By errorLocator = By.cssSelector("div.error");
+
+    /**
+     * Answers the snapshot script with the name field, the save button, and a missing error message.
+     */
+    private FakeBrowser newBrowser() {
+        FakeBrowser browser = new FakeBrowser();
+        Map<String, Object> disabled = new HashMap<>();
+        disabled.put("disabled", null);
+        browser.scriptHandler = (script, args) -> Arrays.asList(
+                Map.of("text", "John", "attributes", Map.of("required", "true")),
+                Map.of("text", "Save", "attributes", disabled),
+                null);
+        HTMLElement.driver = browser.driver;
+        return browser;
+    }
+
+    @Test
+    @DisplayName("Every verification should be evaluated from a single browser call")
+    public void verificationsUseSingleCall() {
+        FakeBrowser browser = newBrowser();
+
+        SoftVerify.of()
+                .text(new HTMLElement(nameLocator), "John")
+                .isRequired(new HTMLElement(nameLocator))
+                .isNotDisabled(new HTMLElement(saveLocator))
+                .nonExistence(new HTMLElement(errorLocator))
+                .verifyAll();
+
+        Assertions.assertEquals(1, browser.total());
+    }
+
+    @Test
+    @DisplayName("Every failed verification should be reported at once")
+    public void failuresAreReportedTogether() {
+        FakeBrowser browser = newBrowser();
+
+        AssertionError failure = Assertions.assertThrows(AssertionError.class, () -> SoftVerify.of()
+                .text(new HTMLElement(nameLocator), "Jane")
+                .isDisabled(new HTMLElement(saveLocator))
+                .existence(new HTMLElement(errorLocator))
+                .verifyAll());
+
+        String message = failure.getMessage();
+        Assertions.assertTrue(message.startsWith("3 of 3 verifications failed"), message);
+        Assertions.assertTrue(message.contains(nameLocator + " text should be 'Jane', but text was 'John'"), message);
+        Assertions.assertTrue(message.contains(saveLocator + " should be disabled"), message);
+        Assertions.assertTrue(message.contains(errorLocator + " should exist, but it does not exist"), message);
+        Assertions.assertEquals(1, browser.total());
+    }
+
+    @Test
+    @DisplayName("Requested attributes should be grouped per element")
+    public void attributesAreGroupedPerElement() {
+        FakeBrowser browser = newBrowser();
+        List<Object> targets = new ArrayList<>();
+        browser.scriptHandler = (script, args) -> {
+            targets.add(args[0]);
+            return List.of(Map.of("text", "John", "attributes", Map.of("required", "true", "maxlength", "20")));
+        };
+
+        SoftVerify.of()
+                .isRequired(new HTMLElement(nameLocator))
+                .attribute(new HTMLElement(nameLocator), "maxlength", "20")
+                .verifyAll();
+
+        Assertions.assertEquals(List.of(List.of(Arrays.asList("css selector", "input#name", null, List.of("required", "maxlength")))),
+                targets);
+    }
+
+    @Test
+    @DisplayName("An empty session should not call the browser")
+    public void emptySessionSendsNothing() {
+        FakeBrowser browser = newBrowser();
+
+        SoftVerify.of().verifyAll();
+
+        Assertions.assertEquals(0, browser.total());
+    }
+
+    @Test
+    @DisplayName("Elements of another frame should be read inside their frame, with one script per context")
+    public void framedElementsUseTheirContext() {
+        FakeBrowser browser = new FakeBrowser();
+        browser.add(By.id("editor"));
+        List<String> batches = new ArrayList<>();
+        browser.scriptHandler = (script, args) -> {
+            List<?> targets = (List<?>) args[0];
+            String frame = browser.count("switchTo.frame") > 0 ? "editor" : "page";
+            batches.add(frame + ": " + targets.stream().map(x -> String.valueOf(((List<?>) x).get(1))).toList());
+            return targets.stream().map(x -> Map.of("text", "John", "attributes", Map.of())).toList();
+        };
+        HTMLElement.driver = browser.driver;
+        ElementContext editor = ElementContext.top().frame(By.id("editor"));
+
+        SoftVerify.of()
+                .text(new HTMLElement(nameLocator).within(editor), "John")
+                .existence(new HTMLElement(errorLocator).within(editor))
+                .text(new HTMLElement(saveLocator), "John")
+                .verifyAll();
+
+        Assertions.assertEquals(List.of("page: [button#save]", "editor: [input#name, div.error]"), batches);
+        Assertions.assertEquals(1, browser.count("switchTo.frame"));
+    }
+}
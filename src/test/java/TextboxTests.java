@@ -0,0 +1,44 @@
+import com.gbursali.elements.HTMLElement;
+import com.gbursali.elements.Textbox;
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.openqa.selenium.By;
+
+public class TextboxTests {
+    private final By nameLocator = By.cssSelector("input#name");
+
+    @Test
+    @DisplayName("fastFill should set the value with a single script when the page accepts it")
+    public void fastFillUsesSingleScript() {
+        FakeBrowser browser = new FakeBrowser();
+        FakeElement input = browser.add(nameLocator);
+        browser.scriptHandler = (script, args) -> {
+            input.attributes.put("value", (String) args[1]);
+            return args[1];
+        };
+        HTMLElement.driver = browser.driver;
+
+        new Textbox(nameLocator).fastFill("John");
+
+        Assertions.assertEquals("John", input.attributes.get("value"));
+        Assertions.assertEquals(1, browser.count("executeScript"));
+        Assertions.assertEquals(0, browser.count("sendKeys"));
+        Assertions.assertEquals(0, browser.count("clear"));
+    }
+
+    @Test
+    @DisplayName("fastFill should type the text when the page rejects the programmatic value")
+    public void fastFillFallsBackToTyping() {
+        FakeBrowser browser = new FakeBrowser();
+        FakeElement input = browser.add(nameLocator);
+        browser.scriptHandler = (script, args) -> null;
+        HTMLElement.driver = browser.driver;
+
+        new Textbox(nameLocator).fastFill("John");
+
+        Assertions.assertEquals("John", input.attributes.get("value"));
+        Assertions.assertEquals(1, browser.count("clear"));
+        Assertions.assertEquals(1, browser.count("sendKeys"));
+    }
+}
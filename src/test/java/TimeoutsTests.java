@@ -0,0 +1,102 @@
+import com.gbursali.elements.HTMLElement;
+import com.gbursali.elements.Session;
+import com.gbursali.elements.Timeouts;
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+
+public class TimeoutsTests {
+    private final Duration implicitWait = Duration.ofSeconds(5);
+
+    private WebDriver newDriver(FakeBrowser browser) {
+        WebDriver driver = Session.observe(browser.driver);
+        driver.manage().timeouts().implicitlyWait(implicitWait);
+        HTMLElement.driver = driver;
+        browser.resetCounts();
+        return driver;
+    }
+
+    @Test
+    @DisplayName("Scopes should restore the previous implicit wait")
+    public void scopeRestoresImplicitWait() {
+        FakeBrowser browser = new FakeBrowser();
+        WebDriver driver = newDriver(browser);
+
+        try (Timeouts.Scope ignored = Timeouts.implicit(Duration.ZERO)) {
+            Assertions.assertEquals(Duration.ZERO, driver.manage().timeouts().getImplicitWaitTimeout());
+        }
+
+        Assertions.assertEquals(implicitWait, driver.manage().timeouts().getImplicitWaitTimeout());
+    }
+
+    @Test
+    @DisplayName("Repeated scopes should read the implicit wait once, and nested scopes should send nothing")
+    public void implicitWaitIsCached() {
+        FakeBrowser browser = new FakeBrowser();
+        newDriver(browser);
+
+        for (int i = 0; i < 3; i++) {
+            try (Timeouts.Scope outer = Timeouts.implicit(Duration.ZERO);
+                 Timeouts.Scope inner = Timeouts.implicit(Duration.ZERO)) {
+                Assertions.assertSame(Timeouts.Scope.NONE, inner);
+            }
+        }
+
+        Assertions.assertEquals(1, browser.count("getImplicitWaitTimeout"));
+        Assertions.assertEquals(6, browser.count("implicitlyWait"));
+    }
+
+    @Test
+    @DisplayName("Non-existence checks should not wait for the implicit wait")
+    public void nonExistenceSkipsImplicitWait() {
+        FakeBrowser browser = new FakeBrowser();
+        WebDriver driver = newDriver(browser);
+
+        long start = System.nanoTime();
+        new HTMLElement(By.cssSelector("div.missing")).verify.nonExistence();
+        long elapsed = System.nanoTime() - start;
+
+        Assertions.assertTrue(elapsed < implicitWait.toNanos() / 2, "Waited " + elapsed / 1_000_000 + " ms");
+        Assertions.assertEquals(2, browser.count("implicitlyWait"));
+        Assertions.assertEquals(implicitWait, Timeouts.getImplicitWait());
+        Assertions.assertEquals(implicitWait, driver.manage().timeouts().getImplicitWaitTimeout());
+    }
+
+    @Test
+    @DisplayName("Existence checks on an undecorated driver should read the implicit wait once")
+    public void undecoratedDriverIsCached() {
+        FakeBrowser browser = new FakeBrowser();
+        browser.driver.manage().timeouts().implicitlyWait(implicitWait);
+        HTMLElement.driver = browser.driver;
+        browser.resetCounts();
+        HTMLElement missing = new HTMLElement(By.cssSelector("div.missing"));
+
+        for (int i = 0; i < 5; i++)
+            Assertions.assertFalse(missing.isExist());
+
+        Assertions.assertEquals(1, browser.count("getImplicitWaitTimeout"));
+        Assertions.assertEquals(10, browser.count("implicitlyWait"));
+        Assertions.assertEquals(5, browser.count("findElements"));
+    }
+
+    @Test
+    @DisplayName("Scopes on an undecorated driver should restore the implicit wait set before forget")
+    public void forgetReadsTheImplicitWaitAgain() {
+        FakeBrowser browser = new FakeBrowser();
+        WebDriver driver = browser.driver;
+        HTMLElement.driver = driver;
+        Assertions.assertEquals(Duration.ZERO, Timeouts.getImplicitWait());
+
+        driver.manage().timeouts().implicitlyWait(implicitWait);
+        Timeouts.forget();
+        try (Timeouts.Scope ignored = Timeouts.implicit(Duration.ZERO)) {
+            Assertions.assertEquals(Duration.ZERO, driver.manage().timeouts().getImplicitWaitTimeout());
+        }
+
+        Assertions.assertEquals(implicitWait, driver.manage().timeouts().getImplicitWaitTimeout());
+    }
+}
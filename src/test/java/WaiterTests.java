@@ -0,0 +1,84 @@
+import com.gbursali.elements.Waiter;
+import org.awaitility.core.ConditionTimeoutException;
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.NoSuchElementException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+public class WaiterTests {
+
+    @Test
+    @DisplayName("A satisfied condition should be checked once, without sleeping")
+    public void satisfiedConditionReturnsImmediately() {
+        int[] checks = {0};
+        long start = System.nanoTime();
+
+        Waiter.until("Waiting", () -> ++checks[0] > 0);
+
+        Assertions.assertEquals(1, checks[0]);
+        Assertions.assertTrue(System.nanoTime() - start < Duration.ofMillis(50).toNanos());
+    }
+
+    @Test
+    @DisplayName("Checks should back off up to the maximum interval")
+    public void checksBackOff() {
+        long start = System.nanoTime();
+        List<Long> checks = new ArrayList<>();
+
+        Waiter.until("Waiting", () -> {
+            checks.add(System.nanoTime());
+            return System.nanoTime() - start >= Duration.ofMillis(500).toNanos();
+        });
+
+        // The sleeps never end early, so every interval is at least 5, 10, 20, 40, 80 ms, then 100 ms.
+        long cap = Waiter.maxInterval.toNanos();
+        long scheduled = Waiter.minInterval.toNanos();
+        List<Long> late = new ArrayList<>();
+        for (int i = 1; i < checks.size(); i++) {
+            long interval = checks.get(i) - checks.get(i - 1);
+            Assertions.assertTrue(interval >= scheduled, "Interval " + i + " was " + interval / 1_000_000 + " ms");
+            if (scheduled == cap)
+                late.add(interval);
+            scheduled = Math.min(scheduled * 2, cap);
+        }
+        // Once capped, the intervals should stay near the cap instead of growing.
+        Assertions.assertFalse(late.isEmpty());
+        late.sort(null);
+        Assertions.assertTrue(late.get(late.size() / 2) < 2 * cap, "Capped intervals were " + late);
+    }
+
+    @Test
+    @DisplayName("Exceptions of an element that is not ready should be ignored until the timeout")
+    public void ignoredExceptionsTimeOut() {
+        int[] checks = {0};
+
+        ConditionTimeoutException e = Assertions.assertThrows(ConditionTimeoutException.class,
+                () -> Waiter.until("Waiting for the element", Duration.ofMillis(200), () -> {
+                    checks[0]++;
+                    throw new NoSuchElementException("missing");
+                }));
+
+        Assertions.assertTrue(checks[0] > 1);
+        Assertions.assertTrue(e.getMessage().contains("Waiting for the element"));
+        Assertions.assertTrue(e.getCause() instanceof NoSuchElementException);
+    }
+
+    @Test
+    @DisplayName("Other exceptions should be thrown from the first check")
+    public void otherExceptionsAreThrown() {
+        int[] checks = {0};
+
+        Assertions.assertThrows(ElementClickInterceptedException.class,
+                () -> Waiter.until("Waiting", () -> {
+                    checks[0]++;
+                    throw new ElementClickInterceptedException("covered");
+                }));
+
+        Assertions.assertEquals(1, checks[0]);
+    }
+}
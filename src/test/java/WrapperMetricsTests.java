@@ -0,0 +1,46 @@
+import com.gbursali.metrics.InMemoryExporter;
+import com.gbursali.metrics.MetricsSnapshot;
+import com.gbursali.metrics.WrapperMetrics;
+import com.gbursali.locators.LocatorFinder;
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.List;
+
+public class WrapperMetricsTests {
+
+    @Test
+    @DisplayName("Metrics should not record anything while disabled")
+    public void disabledMetricsRecordNothing() {
+        WrapperMetrics.disable();
+        WrapperMetrics.reset();
+        WrapperMetrics.record("click", "button", WrapperMetrics.start());
+        Assertions.assertTrue(WrapperMetrics.snapshot().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Metrics should count the calls of LocatorFinder.locate per key")
+    public void locateCallsAreCountedPerKey() {
+        var finder = LocatorFinder.ofFile(LocatorFinderTests.LOCATOR_PATH);
+        WrapperMetrics.reset();
+        WrapperMetrics.enable();
+        try {
+            finder.locate("LoginButton");
+            finder.locate("LoginButton");
+            finder.locate("LoginXp");
+        } finally {
+            WrapperMetrics.disable();
+        }
+
+        var exporter = new InMemoryExporter();
+        WrapperMetrics.export(exporter);
+        List<MetricsSnapshot> snapshots = exporter.getSnapshots();
+        long loginButtonCount = snapshots.stream()
+                .filter(x -> x.operation().equals("locate") && x.locator().equals("LoginButton"))
+                .mapToLong(MetricsSnapshot::count)
+                .sum();
+        Assertions.assertEquals(2, loginButtonCount);
+        Assertions.assertEquals(2, snapshots.size());
+    }
+}